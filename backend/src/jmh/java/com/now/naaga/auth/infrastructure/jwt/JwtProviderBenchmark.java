@@ -0,0 +1,31 @@
+package com.now.naaga.auth.infrastructure.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        final String secretKey = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+        jwtProvider = new JwtProvider(secretKey);
+        final Date expiredAt = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+        token = jwtProvider.generate("1", expiredAt);
+    }
+
+    @Benchmark
+    public String extractSubject() {
+        return jwtProvider.extractSubject(token);
+    }
+}
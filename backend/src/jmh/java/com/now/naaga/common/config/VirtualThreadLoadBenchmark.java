@@ -0,0 +1,108 @@
+package com.now.naaga.common.config;
+
+import com.now.naaga.NaagaApplication;
+import com.now.naaga.common.stub.KakaoStubServer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+public class VirtualThreadLoadBenchmark {
+
+    private static final String KAKAO_USER_INFO_PATH = "/v2/user/me";
+
+    private static final int CONCURRENT_REQUESTS = 1_000;
+
+    private static final int CREATED = 201;
+
+    @Param({"false", "true"})
+    private String virtualThreadEnabled;
+
+    @Param({"100"})
+    private long kakaoLatencyMillis;
+
+    @Param({"20", "1000"})
+    private int maxConnectionsPerRoute;
+
+    private KakaoStubServer kakaoStubServer;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private HttpClient httpClient;
+
+    private URI loginUri;
+
+    @Setup
+    public void setUp() {
+        kakaoStubServer = new KakaoStubServer().start();
+        kakaoStubServer.delay(KAKAO_USER_INFO_PATH, kakaoLatencyMillis);
+        applicationContext = new SpringApplicationBuilder(NaagaApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=warn",
+                        "spring.threads.virtual.enabled=" + virtualThreadEnabled,
+                        "oauth.kakao.url.api=" + kakaoStubServer.url(),
+                        "http-client.max-connections=" + maxConnectionsPerRoute,
+                        "http-client.max-connections-per-route=" + maxConnectionsPerRoute
+                )
+                .run();
+        final int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+        loginUri = URI.create("http://localhost:" + port + "/auth");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        login().join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+        kakaoStubServer.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public int loginWithSlowKakao() {
+        final List<CompletableFuture<Integer>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(login());
+        }
+        int createdCount = 0;
+        for (final CompletableFuture<Integer> response : responses) {
+            if (response.join() != CREATED) {
+                throw new IllegalStateException("로그인 요청이 실패했습니다. status=" + response.join());
+            }
+            createdCount++;
+        }
+        return createdCount;
+    }
+
+    private CompletableFuture<Integer> login() {
+        final String body = """
+                {"type": "KAKAO", "token": "kakao-access-token", "deviceId": "%s"}
+                """.formatted(UUID.randomUUID());
+        final HttpRequest request = HttpRequest.newBuilder(loginUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+}
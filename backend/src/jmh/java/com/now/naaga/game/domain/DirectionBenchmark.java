@@ -0,0 +1,26 @@
+package com.now.naaga.game.domain;
+
+import com.now.naaga.place.domain.Position;
+import java.math.BigDecimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class DirectionBenchmark {
+
+    private Position from;
+    private Position to;
+
+    @Setup
+    public void setUp() {
+        from = new Position(BigDecimal.valueOf(37.515446), BigDecimal.valueOf(127.102899));
+        to = new Position(BigDecimal.valueOf(37.5169677), BigDecimal.valueOf(127.11207));
+    }
+
+    @Benchmark
+    public Direction calculate() {
+        return Direction.calculate(from, to);
+    }
+}
@@ -0,0 +1,50 @@
+package com.now.naaga.game.domain;
+
+import static com.now.naaga.game.domain.GameStatus.DONE;
+import static com.now.naaga.game.domain.ResultType.FAIL;
+import static com.now.naaga.game.domain.ResultType.SUCCESS;
+
+import com.now.naaga.member.domain.Member;
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.place.domain.Position;
+import com.now.naaga.player.domain.Player;
+import com.now.naaga.score.domain.Score;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class StatisticBenchmark {
+
+    @Param({"100", "10000"})
+    private int recordCount;
+
+    private List<GameRecord> gameRecords;
+
+    @Setup
+    public void setUp() {
+        final Player player = new Player("benchmark", new Score(0), new Member("benchmark@email.com"));
+        final Position destination = new Position(BigDecimal.valueOf(37.515446), BigDecimal.valueOf(127.102899));
+        final Position startPosition = new Position(BigDecimal.valueOf(37.5169677), BigDecimal.valueOf(127.11207));
+        final Place place = new Place("place", "description", destination, "imageUrl", player);
+        final LocalDateTime startTime = LocalDateTime.of(2023, 7, 31, 12, 0, 30);
+
+        gameRecords = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            final Game game = new Game(DONE, player, place, startPosition, i % 3, new ArrayList<>(), startTime, startTime.plusMinutes(i % 120));
+            final ResultType resultType = i % 2 == 0 ? SUCCESS : FAIL;
+            gameRecords.add(GameRecord.from(new GameResult(resultType, new Score(i % 100), game)));
+        }
+    }
+
+    @Benchmark
+    public Statistic of() {
+        return Statistic.of(gameRecords);
+    }
+}
@@ -0,0 +1,49 @@
+package com.now.naaga.game.domain.gamescore;
+
+import static com.now.naaga.game.domain.GameStatus.DONE;
+import static com.now.naaga.game.domain.ResultType.SUCCESS;
+
+import com.now.naaga.game.domain.Direction;
+import com.now.naaga.game.domain.Game;
+import com.now.naaga.game.domain.Hint;
+import com.now.naaga.member.domain.Member;
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.place.domain.Position;
+import com.now.naaga.player.domain.Player;
+import com.now.naaga.score.domain.Score;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class GameScoreCalculatorBenchmark {
+
+    private GameScoreCalculator gameScoreCalculator;
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        gameScoreCalculator = new GameScoreCalculator(List.of(new SuccessGameScorePolicy(), new FailGameScorePolicy()));
+
+        final Player player = new Player("benchmark", new Score(0), new Member("benchmark@email.com"));
+        final Position destination = new Position(BigDecimal.valueOf(37.515446), BigDecimal.valueOf(127.102899));
+        final Position startPosition = new Position(BigDecimal.valueOf(37.5169677), BigDecimal.valueOf(127.11207));
+        final Place place = new Place("place", "description", destination, "imageUrl", player);
+        final LocalDateTime startTime = LocalDateTime.of(2023, 7, 31, 12, 0, 30);
+        final LocalDateTime endTime = startTime.plusMinutes(25);
+        final List<Hint> hints = new ArrayList<>();
+        game = new Game(DONE, player, place, startPosition, 2, hints, startTime, endTime);
+        hints.add(new Hint(startPosition, Direction.calculate(startPosition, destination), game));
+        hints.add(new Hint(startPosition, Direction.calculate(startPosition, destination), game));
+    }
+
+    @Benchmark
+    public Score calculate() {
+        return gameScoreCalculator.calculate(game, SUCCESS);
+    }
+}
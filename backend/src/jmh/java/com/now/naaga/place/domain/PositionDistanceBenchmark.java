@@ -0,0 +1,57 @@
+package com.now.naaga.place.domain;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionDistanceBenchmark {
+
+    private static final BigDecimal START_LATITUDE = BigDecimal.valueOf(37.515446);
+    private static final BigDecimal START_LONGITUDE = BigDecimal.valueOf(127.102899);
+    private static final BigDecimal DESTINATION_LATITUDE = BigDecimal.valueOf(37.5169677);
+    private static final BigDecimal DESTINATION_LONGITUDE = BigDecimal.valueOf(127.11207);
+
+    private Position start;
+    private Position destination;
+
+    @Setup
+    public void setUp() {
+        start = new Position(START_LATITUDE, START_LONGITUDE);
+        destination = new Position(DESTINATION_LATITUDE, DESTINATION_LONGITUDE);
+    }
+
+    @Benchmark
+    public double legacyCalculateDistance() {
+        return Math.acos(Math.sin(Math.toRadians(destination.getLatitude().doubleValue())) * Math.sin(Math.toRadians(start.getLatitude().doubleValue()))
+                + (Math.cos(Math.toRadians(destination.getLatitude().doubleValue())) * Math.cos(Math.toRadians(start.getLatitude().doubleValue())) * Math.cos(
+                Math.toRadians(destination.getLongitude().doubleValue() - start.getLongitude().doubleValue())))
+        ) * 6371.0 * 1000;
+    }
+
+    @Benchmark
+    public double calculateDistance() {
+        return start.calculateDistance(destination);
+    }
+
+    @Benchmark
+    public double calculateDistanceWithFreshPositions() {
+        final Position freshStart = new Position(START_LATITUDE, START_LONGITUDE);
+        final Position freshDestination = new Position(DESTINATION_LATITUDE, DESTINATION_LONGITUDE);
+        return freshStart.calculateDistance(freshDestination);
+    }
+}
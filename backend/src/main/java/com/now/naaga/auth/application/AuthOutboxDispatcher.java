@@ -0,0 +1,107 @@
+package com.now.naaga.auth.application;
+
+import com.now.naaga.auth.domain.AuthOutbox;
+import com.now.naaga.auth.infrastructure.AuthClient;
+import com.now.naaga.auth.persistence.AuthOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class AuthOutboxDispatcher {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+    private final AuthOutboxRepository authOutboxRepository;
+
+    private final AuthClient authClient;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AuthOutboxDispatcher(final AuthOutboxRepository authOutboxRepository,
+                                final AuthClient authClient,
+                                final TransactionTemplate transactionTemplate) {
+        this.authOutboxRepository = authOutboxRepository;
+        this.authClient = authClient;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.outbox.dispatch-delay:1000}")
+    public void dispatch() {
+        dispatch(LocalDateTime.now());
+    }
+
+    public void dispatch(final LocalDateTime now) {
+        final List<AuthOutbox> outboxes = claim(now);
+        final Map<Long, List<AuthOutbox>> outboxesByAuthId = outboxes.stream()
+                .collect(Collectors.groupingBy(AuthOutbox::getAuthId, LinkedHashMap::new, Collectors.toList()));
+        final CompletableFuture<?>[] dispatches = outboxesByAuthId.values()
+                .stream()
+                .map(sameAuthOutboxes -> dispatchInOrder(sameAuthOutboxes, now))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(dispatches).join();
+    }
+
+    private List<AuthOutbox> claim(final LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            final List<Long> outboxIds = authOutboxRepository.findDispatchableIds(now, PageRequest.of(0, BATCH_SIZE));
+            if (outboxIds.isEmpty()) {
+                return List.<AuthOutbox>of();
+            }
+            final String claimToken = UUID.randomUUID().toString();
+            authOutboxRepository.claim(outboxIds, claimToken, now, now.plus(CLAIM_LEASE));
+            return authOutboxRepository.findByClaimTokenOrderByIdAsc(claimToken);
+        });
+    }
+
+    private CompletableFuture<Boolean> dispatchInOrder(final List<AuthOutbox> outboxes,
+                                                       final LocalDateTime now) {
+        CompletableFuture<Boolean> dispatched = CompletableFuture.completedFuture(true);
+        for (final AuthOutbox outbox : outboxes) {
+            dispatched = dispatched.thenCompose(sent -> {
+                if (!sent) {
+                    release(outbox, now);
+                    return CompletableFuture.completedFuture(false);
+                }
+                return send(outbox, now);
+            });
+        }
+        return dispatched;
+    }
+
+    private CompletableFuture<Boolean> send(final AuthOutbox outbox,
+                                            final LocalDateTime now) {
+        return request(outbox).handle((result, exception) -> {
+            if (exception == null) {
+                authOutboxRepository.deleteById(outbox.getId());
+                return true;
+            }
+            transactionTemplate.executeWithoutResult(status -> authOutboxRepository.findById(outbox.getId())
+                    .ifPresent(savedOutbox -> savedOutbox.fail(now)));
+            return false;
+        });
+    }
+
+    private void release(final AuthOutbox outbox,
+                         final LocalDateTime now) {
+        transactionTemplate.executeWithoutResult(status -> authOutboxRepository.release(outbox.getId(), now));
+    }
+
+    private CompletableFuture<Void> request(final AuthOutbox outbox) {
+        return switch (outbox.getType()) {
+            case LOGOUT -> authClient.requestLogoutAsync(outbox.getAuthId());
+            case UNLINK -> authClient.requestUnlinkAsync(outbox.getAuthId());
+        };
+    }
+}
@@ -3,11 +3,16 @@ package com.now.naaga.auth.application;
 import com.now.naaga.auth.application.dto.AuthCommand;
 import com.now.naaga.auth.infrastructure.dto.AuthInfo;
 import com.now.naaga.auth.application.dto.RefreshTokenCommand;
+import com.now.naaga.auth.domain.AuthOutbox;
+import com.now.naaga.auth.domain.AuthOutboxType;
 import com.now.naaga.auth.domain.AuthToken;
 import com.now.naaga.auth.exception.AuthException;
 import com.now.naaga.auth.infrastructure.AuthClient;
 import com.now.naaga.auth.infrastructure.dto.MemberAuth;
 import com.now.naaga.auth.infrastructure.jwt.AuthTokenGenerator;
+import com.now.naaga.auth.infrastructure.jwt.RefreshTokenClaims;
+import com.now.naaga.auth.infrastructure.jwt.VerifiedTokenCache;
+import com.now.naaga.auth.persistence.AuthOutboxRepository;
 import com.now.naaga.auth.persistence.AuthRepository;
 import com.now.naaga.member.application.CreateMemberCommand;
 import com.now.naaga.member.application.DeleteMemberCommand;
@@ -16,12 +21,14 @@ import com.now.naaga.member.domain.Member;
 import com.now.naaga.player.application.PlayerService;
 import com.now.naaga.player.application.dto.CreatePlayerCommand;
 import com.now.naaga.player.application.dto.DeletePlayerCommand;
+import java.time.LocalDateTime;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static com.now.naaga.auth.exception.AuthExceptionType.INVALID_TOKEN;
+import static com.now.naaga.auth.exception.AuthExceptionType.INVALID_TOKEN_ACCESS;
 
-@Transactional
 @Service
 public class AuthService {
 
@@ -31,27 +38,41 @@ public class AuthService {
 
     private final AuthRepository authRepository;
 
+    private final AuthOutboxRepository authOutboxRepository;
+
     private final AuthClient authClient;
 
     private final AuthTokenGenerator authTokenGenerator;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TransactionTemplate transactionTemplate;
+
     public AuthService(final PlayerService playerService,
                        final MemberService memberService,
                        final AuthRepository authRepository,
+                       final AuthOutboxRepository authOutboxRepository,
                        final AuthClient authClient,
-                       final AuthTokenGenerator authTokenGenerator) {
+                       final AuthTokenGenerator authTokenGenerator,
+                       final VerifiedTokenCache verifiedTokenCache,
+                       final TransactionTemplate transactionTemplate) {
         this.playerService = playerService;
         this.memberService = memberService;
         this.authRepository = authRepository;
+        this.authOutboxRepository = authOutboxRepository;
         this.authClient = authClient;
         this.authTokenGenerator = authTokenGenerator;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public AuthToken login(final AuthCommand authCommand) {
         final AuthInfo authInfo = authClient.requestOauthInfo(authCommand.token());
         final Member member = findOrCreateMember(authInfo);
-        final AuthToken generatedAuthToken = authTokenGenerator.generate(member, authInfo.getId(), authCommand.type());
-        return authRepository.save(generatedAuthToken);
+        final AuthToken generatedAuthToken = authTokenGenerator.generate(member, authInfo.getId(), authCommand.type(), authCommand.deviceId());
+        return transactionTemplate.execute(status -> authRepository.findByMemberIdAndDeviceId(member.getId(), authCommand.deviceId())
+                .map(authToken -> authToken.reissue(generatedAuthToken))
+                .orElseGet(() -> authRepository.save(generatedAuthToken)));
     }
 
     private Member findOrCreateMember(final AuthInfo kakaoAuthInfo) {
@@ -65,35 +86,69 @@ public class AuthService {
     }
 
     private Member createMemberAndPlayer(final AuthInfo kakaoAuthInfo, final CreateMemberCommand createMemberCommand) {
-        final Member member = memberService.create(createMemberCommand);
-        final CreatePlayerCommand createPlayerCommand = new CreatePlayerCommand(kakaoAuthInfo.getNickname(), member);
-        playerService.create(createPlayerCommand);
-        return member;
+        return transactionTemplate.execute(status -> {
+            final Member member = memberService.create(createMemberCommand);
+            final CreatePlayerCommand createPlayerCommand = new CreatePlayerCommand(kakaoAuthInfo.getNickname(), member);
+            playerService.create(createPlayerCommand);
+            return member;
+        });
     }
 
     @Transactional(noRollbackFor = AuthException.class)
     public AuthToken refreshLogin(final RefreshTokenCommand refreshTokenCommand) {
-        final String refreshToken = refreshTokenCommand.refreshToken();
-        final AuthToken oldAuthToken = authRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new AuthException(INVALID_TOKEN));
-        authRepository.delete(oldAuthToken);
-        final AuthToken newAuthToken = authTokenGenerator.refresh(oldAuthToken);
-        return authRepository.save(newAuthToken);
+        final RefreshTokenClaims refreshTokenClaims = authTokenGenerator.parseRefreshToken(refreshTokenCommand.refreshToken());
+        final Long memberId = refreshTokenClaims.memberAuth().getMemberId();
+        final AuthToken rotatedAuthToken = authTokenGenerator.rotate(refreshTokenClaims);
+        final int rotatedCount = authRepository.rotate(memberId,
+                refreshTokenClaims.familyId(),
+                refreshTokenClaims.version(),
+                LocalDateTime.now(),
+                rotatedAuthToken.getAccessTokenExpiredAt(),
+                rotatedAuthToken.getRefreshTokenExpiredAt());
+        verifiedTokenCache.invalidateMember(memberId);
+        if (rotatedCount == 0) {
+            throw rejectRefresh(refreshTokenClaims);
+        }
+        return rotatedAuthToken;
+    }
+
+    private AuthException rejectRefresh(final RefreshTokenClaims refreshTokenClaims) {
+        final AuthToken authToken = authRepository.findByMemberIdAndFamilyId(refreshTokenClaims.memberAuth().getMemberId(), refreshTokenClaims.familyId())
+                .orElse(null);
+        if (authToken == null) {
+            return new AuthException(INVALID_TOKEN);
+        }
+        authRepository.delete(authToken);
+        if (authToken.isCurrentVersion(refreshTokenClaims.version())) {
+            return new AuthException(INVALID_TOKEN_ACCESS);
+        }
+        return new AuthException(INVALID_TOKEN);
     }
 
     public void deleteAccount(final MemberAuth memberAuth) {
         final Long memberId = memberAuth.getMemberId();
         final Long authId = memberAuth.getAuthId();
-        authRepository.deleteByMemberId(memberId);
-        authClient.requestUnlink(authId);
-        playerService.deleteByMemberId(new DeletePlayerCommand(memberId));
-        memberService.deleteByMemberId(new DeleteMemberCommand(memberId));
+        transactionTemplate.executeWithoutResult(status -> {
+            authRepository.deleteByMemberId(memberId);
+            playerService.deleteByMemberId(new DeletePlayerCommand(memberId));
+            memberService.deleteByMemberId(new DeleteMemberCommand(memberId));
+            authOutboxRepository.save(new AuthOutbox(authId, AuthOutboxType.UNLINK, LocalDateTime.now()));
+        });
+        verifiedTokenCache.invalidateMember(memberId);
     }
 
     public void logout(final MemberAuth memberAuth) {
         final Long memberId = memberAuth.getMemberId();
         final Long authId = memberAuth.getAuthId();
-        authRepository.deleteByMemberId(memberId);
-        authClient.requestLogout(authId);
+        transactionTemplate.executeWithoutResult(status -> {
+            authRepository.deleteByMemberId(memberId);
+            authOutboxRepository.save(new AuthOutbox(authId, AuthOutboxType.LOGOUT, LocalDateTime.now()));
+        });
+        verifiedTokenCache.invalidateMember(memberId);
+    }
+
+    @Transactional
+    public int purgeExpiredTokens(final LocalDateTime now) {
+        return authRepository.deleteAllExpired(now);
     }
 }
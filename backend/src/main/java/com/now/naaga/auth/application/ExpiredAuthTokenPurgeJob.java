@@ -0,0 +1,27 @@
+package com.now.naaga.auth.application;
+
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExpiredAuthTokenPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredAuthTokenPurgeJob.class);
+
+    private final AuthService authService;
+
+    public ExpiredAuthTokenPurgeJob(final AuthService authService) {
+        this.authService = authService;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.purge-delay:3600000}")
+    public void purge() {
+        final int purgedCount = authService.purgeExpiredTokens(LocalDateTime.now());
+        if (purgedCount > 0) {
+            log.info("만료된 인증 토큰을 삭제했습니다. count={}", purgedCount);
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package com.now.naaga.auth.application.dto;
 
+import com.now.naaga.auth.domain.AuthToken;
 import com.now.naaga.auth.infrastructure.AuthType;
 import com.now.naaga.auth.presentation.dto.AuthRequest;
 
 public record AuthCommand(String token,
-                          AuthType type) {
+                          AuthType type,
+                          String deviceId) {
     public static AuthCommand from(final AuthRequest authRequest) {
         return new AuthCommand(
                 authRequest.token(),
-                AuthType.valueOf(authRequest.type().toUpperCase())
+                AuthType.valueOf(authRequest.type().toUpperCase()),
+                toDeviceId(authRequest.deviceId())
         );
     }
+
+    private static String toDeviceId(final String deviceId) {
+        if (deviceId == null || deviceId.isBlank()) {
+            return AuthToken.DEFAULT_DEVICE_ID;
+        }
+        return deviceId;
+    }
 }
@@ -0,0 +1,131 @@
+package com.now.naaga.auth.domain;
+
+import com.now.naaga.common.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import static com.now.naaga.auth.domain.AuthOutboxStatus.FAILED;
+import static com.now.naaga.auth.domain.AuthOutboxStatus.PENDING;
+
+@Table(indexes = @Index(name = "idx_auth_outbox_status_next_attempt_at", columnList = "status, nextAttemptAt"))
+@Entity
+public class AuthOutbox extends BaseEntity {
+
+    public static final int MAX_ATTEMPT_COUNT = 12;
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long authId;
+
+    @Enumerated(EnumType.STRING)
+    private AuthOutboxType type;
+
+    @Enumerated(EnumType.STRING)
+    private AuthOutboxStatus status;
+
+    private int attemptCount;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String claimToken;
+
+    protected AuthOutbox() {
+    }
+
+    public AuthOutbox(final Long authId,
+                      final AuthOutboxType type,
+                      final LocalDateTime nextAttemptAt) {
+        this.authId = authId;
+        this.type = type;
+        this.status = PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(final LocalDateTime now) {
+        attemptCount++;
+        claimToken = null;
+        if (attemptCount >= MAX_ATTEMPT_COUNT) {
+            status = FAILED;
+            return;
+        }
+        status = PENDING;
+        nextAttemptAt = now.plus(calculateBackoff());
+    }
+
+    private Duration calculateBackoff() {
+        final Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << (attemptCount - 1));
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            return MAX_BACKOFF;
+        }
+        return backoff;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAuthId() {
+        return authId;
+    }
+
+    public AuthOutboxType getType() {
+        return type;
+    }
+
+    public AuthOutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final AuthOutbox that = (AuthOutbox) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthOutbox{" +
+                "id=" + id +
+                ", authId=" + authId +
+                ", type=" + type +
+                ", status=" + status +
+                ", attemptCount=" + attemptCount +
+                ", nextAttemptAt=" + nextAttemptAt +
+                ", claimToken='" + claimToken + '\'' +
+                '}';
+    }
+}
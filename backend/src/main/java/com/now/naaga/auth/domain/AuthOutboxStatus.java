@@ -0,0 +1,9 @@
+package com.now.naaga.auth.domain;
+
+public enum AuthOutboxStatus {
+
+    PENDING,
+    IN_FLIGHT,
+    FAILED,
+    ;
+}
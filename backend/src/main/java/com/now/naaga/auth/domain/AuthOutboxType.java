@@ -0,0 +1,8 @@
+package com.now.naaga.auth.domain;
+
+public enum AuthOutboxType {
+
+    LOGOUT,
+    UNLINK,
+    ;
+}
@@ -3,35 +3,81 @@ package com.now.naaga.auth.domain;
 import com.now.naaga.member.domain.Member;
 import jakarta.persistence.*;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
+@Table(indexes = {
+        @Index(name = "uk_auth_token_member_id_device_id", columnList = "member_id, deviceId", unique = true),
+        @Index(name = "idx_auth_token_refresh_token_expired_at", columnList = "refreshTokenExpiredAt")
+})
 @Entity
 public class AuthToken {
 
+    public static final String DEFAULT_DEVICE_ID = "default";
+
+    private static final int DEVICE_ID_LENGTH = 64;
+
+    private static final int FAMILY_ID_LENGTH = 36;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Transient
     private String accessToken;
 
+    @Transient
     private String refreshToken;
 
+    @Column(length = DEVICE_ID_LENGTH, nullable = false)
+    private String deviceId;
+
+    @Column(length = FAMILY_ID_LENGTH, nullable = false)
+    private String familyId;
+
+    private long version;
+
+    private LocalDateTime accessTokenExpiredAt;
+
+    private LocalDateTime refreshTokenExpiredAt;
+
     @JoinColumn(name = "member_id")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Member member;
 
     public AuthToken() {
     }
 
-    public AuthToken(final String accessToken, final String refreshToken, final Member member) {
-        this(null, accessToken, refreshToken, member);
-    }
-
-    public AuthToken(final Long id, final String accessToken, final String refreshToken, final Member member) {
-        this.id = id;
+    public AuthToken(final String accessToken,
+                     final String refreshToken,
+                     final Member member,
+                     final String deviceId,
+                     final String familyId,
+                     final long version,
+                     final LocalDateTime accessTokenExpiredAt,
+                     final LocalDateTime refreshTokenExpiredAt) {
         this.accessToken = accessToken;
         this.refreshToken = refreshToken;
         this.member = member;
+        this.deviceId = deviceId;
+        this.familyId = familyId;
+        this.version = version;
+        this.accessTokenExpiredAt = accessTokenExpiredAt;
+        this.refreshTokenExpiredAt = refreshTokenExpiredAt;
+    }
+
+    public AuthToken reissue(final AuthToken issuedAuthToken) {
+        this.accessToken = issuedAuthToken.accessToken;
+        this.refreshToken = issuedAuthToken.refreshToken;
+        this.familyId = issuedAuthToken.familyId;
+        this.version = issuedAuthToken.version;
+        this.accessTokenExpiredAt = issuedAuthToken.accessTokenExpiredAt;
+        this.refreshTokenExpiredAt = issuedAuthToken.refreshTokenExpiredAt;
+        return this;
+    }
+
+    public boolean isCurrentVersion(final long version) {
+        return this.version == version;
     }
 
     public Long getId() {
@@ -46,6 +92,26 @@ public class AuthToken {
         return refreshToken;
     }
 
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getAccessTokenExpiredAt() {
+        return accessTokenExpiredAt;
+    }
+
+    public LocalDateTime getRefreshTokenExpiredAt() {
+        return refreshTokenExpiredAt;
+    }
+
     public Member getMember() {
         return member;
     }
@@ -55,20 +121,24 @@ public class AuthToken {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final AuthToken that = (AuthToken) o;
-        return Objects.equals(accessToken, that.accessToken)
-                && Objects.equals(refreshToken, that.refreshToken);
+        return version == that.version
+                && Objects.equals(familyId, that.familyId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accessToken, refreshToken);
+        return Objects.hash(familyId, version);
     }
 
     @Override
     public String toString() {
         return "AuthTokens{" +
-                "accessToken='" + accessToken + '\'' +
-                ", refreshToken='" + refreshToken + '\'' +
+                "id=" + id +
+                ", deviceId='" + deviceId + '\'' +
+                ", familyId='" + familyId + '\'' +
+                ", version=" + version +
+                ", accessTokenExpiredAt=" + accessTokenExpiredAt +
+                ", refreshTokenExpiredAt=" + refreshTokenExpiredAt +
                 '}';
     }
 }
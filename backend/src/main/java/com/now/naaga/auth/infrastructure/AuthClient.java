@@ -5,6 +5,11 @@ import com.now.naaga.auth.exception.AuthException;
 import com.now.naaga.auth.exception.AuthExceptionType;
 import com.now.naaga.auth.infrastructure.dto.LogoutInfo;
 import com.now.naaga.auth.infrastructure.dto.UnlinkInfo;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -17,16 +22,24 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class AuthClient {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthClient.class);
+
     private final RestTemplate restTemplate;
 
-    @Value("${oauth.kakao.url.api}")
-    private String apiUrl;
+    private final Executor executor;
+
+    private final String apiUrl;
 
-    @Value("${oauth.kakao.admin-key}")
-    private String adminKey;
+    private final String adminKey;
 
-    public AuthClient(final RestTemplate restTemplate) {
+    public AuthClient(final RestTemplate restTemplate,
+                      @Qualifier("authClientExecutor") final Executor executor,
+                      @Value("${oauth.kakao.url.api}") final String apiUrl,
+                      @Value("${oauth.kakao.admin-key}") final String adminKey) {
         this.restTemplate = restTemplate;
+        this.executor = executor;
+        this.apiUrl = apiUrl;
+        this.adminKey = adminKey;
     }
 
     public AuthInfo requestOauthInfo(final String token) {
@@ -87,4 +100,22 @@ public class AuthClient {
             throw new AuthException(AuthExceptionType.INVALID_KAKAO_DELETE);
         }
     }
+
+    public CompletableFuture<Void> requestUnlinkAsync(final Long authId) {
+        return CompletableFuture.runAsync(() -> requestUnlink(authId), executor)
+                .whenComplete((result, exception) -> logFailure("연결 끊기", authId, exception));
+    }
+
+    public CompletableFuture<Void> requestLogoutAsync(final Long authId) {
+        return CompletableFuture.runAsync(() -> requestLogout(authId), executor)
+                .whenComplete((result, exception) -> logFailure("로그아웃", authId, exception));
+    }
+
+    private void logFailure(final String requestName,
+                            final Long authId,
+                            final Throwable exception) {
+        if (exception != null) {
+            log.warn("카카오 {} 요청에 실패했습니다. authId={}", requestName, authId, exception);
+        }
+    }
 }
@@ -2,8 +2,10 @@ package com.now.naaga.auth.infrastructure;
 
 import com.now.naaga.auth.infrastructure.dto.MemberAuth;
 import com.now.naaga.auth.infrastructure.jwt.JwtProvider;
+import com.now.naaga.auth.infrastructure.jwt.VerifiedTokenCache;
 import com.now.naaga.auth.exception.AuthException;
 import com.now.naaga.common.exception.InternalException;
+import io.jsonwebtoken.Claims;
 import org.springframework.stereotype.Component;
 
 import static com.now.naaga.auth.exception.AuthExceptionType.*;
@@ -15,8 +17,12 @@ public class BearerAuthExtractor implements AuthenticationExtractor<MemberAuth>
 
     private final JwtProvider jwtProvider;
 
-    public BearerAuthExtractor(final JwtProvider jwtProvider) {
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public BearerAuthExtractor(final JwtProvider jwtProvider,
+                               final VerifiedTokenCache verifiedTokenCache) {
         this.jwtProvider = jwtProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public MemberAuth extract(final String header) {
@@ -28,9 +34,16 @@ public class BearerAuthExtractor implements AuthenticationExtractor<MemberAuth>
         }
         final String accessToken = header.substring(BEARER_TYPE.length()).trim();
 
-        final String subject = jwtProvider.extractSubject(accessToken);
+        return verifiedTokenCache.find(accessToken)
+                                 .orElseGet(() -> verify(accessToken));
+    }
+
+    private MemberAuth verify(final String accessToken) {
+        final Claims claims = jwtProvider.extractClaims(accessToken);
         try {
-            return MemberAuthMapper.convertStringToMemberAuth(subject);
+            final MemberAuth memberAuth = MemberAuthMapper.convertStringToMemberAuth(claims.getSubject());
+            verifiedTokenCache.put(accessToken, memberAuth, claims.getExpiration());
+            return memberAuth;
         } catch (InternalException e) {
             throw new AuthException(INVALID_TOKEN);
         }
@@ -10,18 +10,26 @@ import com.now.naaga.auth.infrastructure.dto.MemberAuth;
 import com.now.naaga.common.exception.InternalException;
 import com.now.naaga.common.exception.InternalExceptionType;
 import com.now.naaga.member.domain.Member;
+import io.jsonwebtoken.Claims;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.ObjectError;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 
-import static com.now.naaga.auth.exception.AuthExceptionType.INVALID_TOKEN_ACCESS;
+import static com.now.naaga.auth.exception.AuthExceptionType.INVALID_TOKEN;
 
 @Component
 public class AuthTokenGenerator {
 
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30; // 30분
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 14;  // 14일
+    private static final String FAMILY_ID_CLAIM = "fid";
+    private static final String VERSION_CLAIM = "ver";
+    private static final long INITIAL_VERSION = 0L;
 
     private final JwtProvider jwtProvider;
 
@@ -32,27 +40,54 @@ public class AuthTokenGenerator {
     public AuthToken generate(final Member member,
                               final Long authId,
                               final AuthType authType) {
+        return generate(member, authId, authType, AuthToken.DEFAULT_DEVICE_ID);
+    }
+
+    public AuthToken generate(final Member member,
+                              final Long authId,
+                              final AuthType authType,
+                              final String deviceId) {
+        final MemberAuth memberAuth = new MemberAuth(member.getId(), authId, authType);
+        return issue(member, memberAuth, deviceId, UUID.randomUUID().toString(), INITIAL_VERSION);
+    }
+
+    public AuthToken rotate(final RefreshTokenClaims refreshTokenClaims) {
+        return issue(null, refreshTokenClaims.memberAuth(), null, refreshTokenClaims.familyId(), refreshTokenClaims.version() + 1);
+    }
+
+    public RefreshTokenClaims parseRefreshToken(final String refreshToken) {
+        final Claims claims = jwtProvider.extractClaims(refreshToken);
+        final String familyId = claims.get(FAMILY_ID_CLAIM, String.class);
+        final Long version = claims.get(VERSION_CLAIM, Long.class);
+        if (familyId == null || version == null) {
+            throw new AuthException(INVALID_TOKEN);
+        }
+        try {
+            final MemberAuth memberAuth = MemberAuthMapper.convertStringToMemberAuth(claims.getSubject());
+            return new RefreshTokenClaims(memberAuth, familyId, version);
+        } catch (InternalException e) {
+            throw new AuthException(INVALID_TOKEN);
+        }
+    }
+
+    private AuthToken issue(final Member member,
+                            final MemberAuth memberAuth,
+                            final String deviceId,
+                            final String familyId,
+                            final long version) {
         final long now = (new Date()).getTime();
         final Date accessTokenExpiredAt = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
         final Date refreshTokenExpiredAt = new Date(now + REFRESH_TOKEN_EXPIRE_TIME);
 
-        final MemberAuth memberAuth = new MemberAuth(member.getId(), authId, authType);
         final String subject = MemberAuthMapper.convertMemberAuthToString(memberAuth);
         final String accessToken = jwtProvider.generate(subject, accessTokenExpiredAt);
-        final String refreshToken = jwtProvider.generate(subject, refreshTokenExpiredAt);
+        final String refreshToken = jwtProvider.generate(subject, refreshTokenExpiredAt, Map.of(FAMILY_ID_CLAIM, familyId, VERSION_CLAIM, version));
 
-        return new AuthToken(accessToken, refreshToken, member);
+        return new AuthToken(accessToken, refreshToken, member, deviceId, familyId, version,
+                toLocalDateTime(accessTokenExpiredAt), toLocalDateTime(refreshTokenExpiredAt));
     }
 
-    public AuthToken refresh(final AuthToken authToken) {
-        final String subject = jwtProvider.extractSubject(authToken.getRefreshToken());
-        final MemberAuth memberAuth = MemberAuthMapper.convertStringToMemberAuth(subject);
-
-        final String accessToken = authToken.getAccessToken();
-        if(jwtProvider.isNotExpired(accessToken)) {
-            throw new AuthException(INVALID_TOKEN_ACCESS);
-        }
-
-        return generate(authToken.getMember(), memberAuth.getAuthId(), memberAuth.getAuthType());
+    private LocalDateTime toLocalDateTime(final Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
     }
 }
@@ -10,19 +10,33 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtProvider {
 
     private final Key key;
 
+    private final JwtParser jwtParser;
+
     public JwtProvider(@Value("${jwt.secret-key}") final String secretKey) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String generate(final String subject, final Date expiredAt) {
+        return generate(subject, expiredAt, Map.of());
+    }
+
+    public String generate(final String subject, final Date expiredAt, final Map<String, ?> claims) {
         return Jwts.builder()
+                .addClaims(new HashMap<>(claims))
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setExpiration(expiredAt)
                 .signWith(key, SignatureAlgorithm.HS512)
@@ -34,12 +48,13 @@ public class JwtProvider {
         return claims.getSubject();
     }
 
+    public Claims extractClaims(final String token) {
+        return parseClaims(token);
+    }
+
     private Claims parseClaims(final String token){
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            return jwtParser.parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
             throw new AuthException(AuthExceptionType.EXPIRED_TOKEN);
@@ -47,20 +62,4 @@ public class JwtProvider {
             throw new AuthException(AuthExceptionType.INVALID_TOKEN);
         }
     }
-
-    public boolean isNotExpired(final String token) {
-        try {
-            final Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-            return expiration.after(new Date());
-        } catch (ExpiredJwtException e) {
-            return false;
-        } catch (Exception e) {
-            throw new AuthException(AuthExceptionType.INVALID_TOKEN);
-        }
-    }
 }
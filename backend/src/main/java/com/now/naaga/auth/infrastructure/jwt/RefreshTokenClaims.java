@@ -0,0 +1,8 @@
+package com.now.naaga.auth.infrastructure.jwt;
+
+import com.now.naaga.auth.infrastructure.dto.MemberAuth;
+
+public record RefreshTokenClaims(MemberAuth memberAuth,
+                                 String familyId,
+                                 long version) {
+}
@@ -0,0 +1,26 @@
+package com.now.naaga.auth.infrastructure.jwt;
+
+import com.now.naaga.common.exception.InternalException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static com.now.naaga.common.exception.InternalExceptionType.FAIL_HASH_TOKEN;
+
+final class TokenHasher {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private TokenHasher() {
+    }
+
+    static String hash(final String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new InternalException(FAIL_HASH_TOKEN);
+        }
+    }
+}
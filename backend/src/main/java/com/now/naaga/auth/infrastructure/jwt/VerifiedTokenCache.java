@@ -0,0 +1,88 @@
+package com.now.naaga.auth.infrastructure.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.now.naaga.auth.infrastructure.dto.MemberAuth;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private final Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfter(new UntilTokenExpiration())
+            .build();
+
+    public Optional<MemberAuth> find(final String token) {
+        final VerifiedToken verifiedToken = cache.getIfPresent(TokenHasher.hash(token));
+        if (verifiedToken == null || verifiedToken.isExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(verifiedToken.memberAuth());
+    }
+
+    public void put(final String token,
+                    final MemberAuth memberAuth,
+                    final Date expiredAt) {
+        final VerifiedToken verifiedToken = new VerifiedToken(memberAuth, expiredAt.getTime());
+        if (verifiedToken.isExpired()) {
+            return;
+        }
+        cache.put(TokenHasher.hash(token), verifiedToken);
+    }
+
+    public void invalidateMember(final Long memberId) {
+        cache.asMap()
+             .values()
+             .removeIf(verifiedToken -> Objects.equals(verifiedToken.memberAuth().getMemberId(), memberId));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private record VerifiedToken(MemberAuth memberAuth,
+                                 long expiredAtMillis) {
+
+        private boolean isExpired() {
+            return expiredAtMillis <= System.currentTimeMillis();
+        }
+
+        private long remainingNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(expiredAtMillis - System.currentTimeMillis(), 0));
+        }
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String key,
+                                      final VerifiedToken value,
+                                      final long currentTime) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key,
+                                      final VerifiedToken value,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterRead(final String key,
+                                    final VerifiedToken value,
+                                    final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
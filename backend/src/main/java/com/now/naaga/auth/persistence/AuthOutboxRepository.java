@@ -0,0 +1,51 @@
+package com.now.naaga.auth.persistence;
+
+import com.now.naaga.auth.domain.AuthOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AuthOutboxRepository extends JpaRepository<AuthOutbox, Long> {
+
+    @Query("SELECT outbox.id FROM AuthOutbox outbox " +
+            "WHERE outbox.status IN (com.now.naaga.auth.domain.AuthOutboxStatus.PENDING, com.now.naaga.auth.domain.AuthOutboxStatus.IN_FLIGHT) " +
+            "AND outbox.nextAttemptAt <= :now " +
+            "AND NOT EXISTS (" +
+            "SELECT earlier.id FROM AuthOutbox earlier " +
+            "WHERE earlier.authId = outbox.authId " +
+            "AND earlier.status IN (com.now.naaga.auth.domain.AuthOutboxStatus.PENDING, com.now.naaga.auth.domain.AuthOutboxStatus.IN_FLIGHT) " +
+            "AND earlier.id < outbox.id " +
+            "AND earlier.nextAttemptAt > :now) " +
+            "ORDER BY outbox.id ASC")
+    List<Long> findDispatchableIds(@Param("now") final LocalDateTime now,
+                                   final Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE AuthOutbox outbox " +
+            "SET outbox.status = com.now.naaga.auth.domain.AuthOutboxStatus.IN_FLIGHT, " +
+            "outbox.claimToken = :claimToken, " +
+            "outbox.nextAttemptAt = :leaseExpiresAt " +
+            "WHERE outbox.id IN :ids " +
+            "AND outbox.status IN (com.now.naaga.auth.domain.AuthOutboxStatus.PENDING, com.now.naaga.auth.domain.AuthOutboxStatus.IN_FLIGHT) " +
+            "AND outbox.nextAttemptAt <= :now")
+    int claim(@Param("ids") final List<Long> ids,
+              @Param("claimToken") final String claimToken,
+              @Param("now") final LocalDateTime now,
+              @Param("leaseExpiresAt") final LocalDateTime leaseExpiresAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE AuthOutbox outbox " +
+            "SET outbox.status = com.now.naaga.auth.domain.AuthOutboxStatus.PENDING, " +
+            "outbox.claimToken = NULL, " +
+            "outbox.nextAttemptAt = :now " +
+            "WHERE outbox.id = :id " +
+            "AND outbox.status = com.now.naaga.auth.domain.AuthOutboxStatus.IN_FLIGHT")
+    int release(@Param("id") final Long id,
+                @Param("now") final LocalDateTime now);
+
+    List<AuthOutbox> findByClaimTokenOrderByIdAsc(final String claimToken);
+}
@@ -2,13 +2,40 @@ package com.now.naaga.auth.persistence;
 
 import com.now.naaga.auth.domain.AuthToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface AuthRepository  extends JpaRepository<AuthToken, Long> {
 
-    Optional<AuthToken> findByRefreshToken(final String refreshToken);
+    Optional<AuthToken> findByMemberIdAndDeviceId(final Long memberId,
+                                                  final String deviceId);
+
+    Optional<AuthToken> findByMemberIdAndFamilyId(final Long memberId,
+                                                  final String familyId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE AuthToken authToken " +
+            "SET authToken.version = authToken.version + 1, " +
+            "authToken.accessTokenExpiredAt = :accessTokenExpiredAt, " +
+            "authToken.refreshTokenExpiredAt = :refreshTokenExpiredAt " +
+            "WHERE authToken.member.id = :memberId " +
+            "AND authToken.familyId = :familyId " +
+            "AND authToken.version = :version " +
+            "AND authToken.accessTokenExpiredAt <= :now")
+    int rotate(@Param("memberId") final Long memberId,
+               @Param("familyId") final String familyId,
+               @Param("version") final long version,
+               @Param("now") final LocalDateTime now,
+               @Param("accessTokenExpiredAt") final LocalDateTime accessTokenExpiredAt,
+               @Param("refreshTokenExpiredAt") final LocalDateTime refreshTokenExpiredAt);
 
     void deleteByMemberId(Long memberId);
+
+    @Modifying
+    @Query("DELETE FROM AuthToken authToken WHERE authToken.refreshTokenExpiredAt <= :now")
+    int deleteAllExpired(@Param("now") final LocalDateTime now);
 }
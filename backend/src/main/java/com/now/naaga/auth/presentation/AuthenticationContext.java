@@ -0,0 +1,26 @@
+package com.now.naaga.auth.presentation;
+
+import com.now.naaga.auth.infrastructure.AuthenticationExtractor;
+import com.now.naaga.auth.infrastructure.dto.MemberAuth;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+@RequestScope
+@Component
+public class AuthenticationContext {
+
+    private final AuthenticationExtractor<MemberAuth> authenticationExtractor;
+
+    private MemberAuth memberAuth;
+
+    public AuthenticationContext(final AuthenticationExtractor<MemberAuth> authenticationExtractor) {
+        this.authenticationExtractor = authenticationExtractor;
+    }
+
+    public MemberAuth authenticate(final String authorizationHeader) {
+        if (memberAuth == null) {
+            memberAuth = authenticationExtractor.extract(authorizationHeader);
+        }
+        return memberAuth;
+    }
+}
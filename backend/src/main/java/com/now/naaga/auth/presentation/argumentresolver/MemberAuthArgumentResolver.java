@@ -1,8 +1,8 @@
 package com.now.naaga.auth.presentation.argumentresolver;
 
-import com.now.naaga.auth.presentation.annotation.Auth;
-import com.now.naaga.auth.infrastructure.AuthenticationExtractor;
 import com.now.naaga.auth.infrastructure.dto.MemberAuth;
+import com.now.naaga.auth.presentation.AuthenticationContext;
+import com.now.naaga.auth.presentation.annotation.Auth;
 import com.now.naaga.auth.presentation.dto.MemberRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.MethodParameter;
@@ -16,10 +16,10 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 public class MemberAuthArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final AuthenticationExtractor<MemberAuth> authenticationExtractor;
+    private final AuthenticationContext authenticationContext;
 
-    public MemberAuthArgumentResolver(final AuthenticationExtractor<MemberAuth> authenticationExtractor) {
-        this.authenticationExtractor = authenticationExtractor;
+    public MemberAuthArgumentResolver(final AuthenticationContext authenticationContext) {
+        this.authenticationContext = authenticationContext;
     }
 
     @Override
@@ -34,6 +34,6 @@ public class MemberAuthArgumentResolver implements HandlerMethodArgumentResolver
                                   final NativeWebRequest webRequest,
                                   final WebDataBinderFactory binderFactory) throws Exception {
         final HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        return authenticationExtractor.extract(request.getHeader(HttpHeaders.AUTHORIZATION));
+        return authenticationContext.authenticate(request.getHeader(HttpHeaders.AUTHORIZATION));
     }
 }
@@ -1,10 +1,10 @@
 package com.now.naaga.auth.presentation.argumentresolver;
 
-import com.now.naaga.auth.presentation.annotation.Auth;
-import com.now.naaga.auth.infrastructure.AuthenticationExtractor;
 import com.now.naaga.auth.infrastructure.dto.MemberAuth;
+import com.now.naaga.auth.presentation.AuthenticationContext;
+import com.now.naaga.auth.presentation.annotation.Auth;
 import com.now.naaga.player.application.PlayerService;
-import com.now.naaga.player.domain.Player;
+import com.now.naaga.player.persistence.cache.PlayerIdCache;
 import com.now.naaga.player.presentation.dto.PlayerRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.MethodParameter;
@@ -18,14 +18,18 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 public class PlayerArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final AuthenticationExtractor<MemberAuth> authenticationExtractor;
+    private final AuthenticationContext authenticationContext;
 
     private final PlayerService playerService;
 
-    public PlayerArgumentResolver(final AuthenticationExtractor<MemberAuth> authenticationExtractor,
-                                  final PlayerService playerService) {
-        this.authenticationExtractor = authenticationExtractor;
+    private final PlayerIdCache playerIdCache;
+
+    public PlayerArgumentResolver(final AuthenticationContext authenticationContext,
+                                  final PlayerService playerService,
+                                  final PlayerIdCache playerIdCache) {
+        this.authenticationContext = authenticationContext;
         this.playerService = playerService;
+        this.playerIdCache = playerIdCache;
     }
 
     @Override
@@ -40,8 +44,10 @@ public class PlayerArgumentResolver implements HandlerMethodArgumentResolver {
                                   final NativeWebRequest webRequest,
                                   final WebDataBinderFactory binderFactory) throws Exception {
         final HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        final MemberAuth memberAuth = authenticationExtractor.extract(request.getHeader(HttpHeaders.AUTHORIZATION));
-        final Player player = playerService.findPlayerByMemberId(memberAuth.getMemberId());
-        return new PlayerRequest(player.getId());
+        final MemberAuth memberAuth = authenticationContext.authenticate(request.getHeader(HttpHeaders.AUTHORIZATION));
+        final Long memberId = memberAuth.getMemberId();
+        final Long playerId = playerIdCache.find(memberId)
+                                           .orElseGet(() -> playerService.findPlayerIdByMemberId(memberId));
+        return new PlayerRequest(playerId);
     }
 }
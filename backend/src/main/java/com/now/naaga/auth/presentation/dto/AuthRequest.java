@@ -1,5 +1,6 @@
 package com.now.naaga.auth.presentation.dto;
 
 public record AuthRequest(String type,
-                          String token) {
+                          String token,
+                          String deviceId) {
 }
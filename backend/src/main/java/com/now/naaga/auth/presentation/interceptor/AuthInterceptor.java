@@ -1,8 +1,7 @@
 package com.now.naaga.auth.presentation.interceptor;
 
-import com.now.naaga.auth.infrastructure.AuthenticationExtractor;
 import com.now.naaga.auth.infrastructure.dto.MemberAuth;
-import com.now.naaga.member.domain.Member;
+import com.now.naaga.auth.presentation.AuthenticationContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
@@ -12,17 +11,17 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
 
-    private final AuthenticationExtractor<MemberAuth> authenticationExtractor;
+    private final AuthenticationContext authenticationContext;
 
-    public AuthInterceptor(final AuthenticationExtractor<MemberAuth> authenticationExtractor) {
-        this.authenticationExtractor = authenticationExtractor;
+    public AuthInterceptor(final AuthenticationContext authenticationContext) {
+        this.authenticationContext = authenticationContext;
     }
 
     @Override
     public boolean preHandle(final HttpServletRequest request,
                              final HttpServletResponse response,
                              final Object handler) throws Exception {
-        final MemberAuth memberAuth = authenticationExtractor.extract(request.getHeader(HttpHeaders.AUTHORIZATION));
+        final MemberAuth memberAuth = authenticationContext.authenticate(request.getHeader(HttpHeaders.AUTHORIZATION));
         return memberAuth.getMemberId() != null;
     }
 }
@@ -5,18 +5,73 @@ import com.now.naaga.game.domain.gamescore.FailGameScorePolicy;
 import com.now.naaga.game.domain.gamescore.GameScoreCalculator;
 import com.now.naaga.game.domain.gamescore.GameScorePolicy;
 import com.now.naaga.game.domain.gamescore.SuccessGameScorePolicy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class BeanConfig {
 
+    private static final long IDLE_CONNECTION_EVICT_SECONDS = 30L;
+
+    private static final int AUTH_CLIENT_CORE_POOL_SIZE = 4;
+
+    private static final int AUTH_CLIENT_MAX_POOL_SIZE = 16;
+
+    private static final int AUTH_CLIENT_QUEUE_CAPACITY = 200;
+
+    @Bean
+    public RestTemplate restTemplate(@Value("${http-client.connect-timeout:3s}") final Duration connectTimeout,
+                                     @Value("${http-client.read-timeout:5s}") final Duration readTimeout,
+                                     @Value("${http-client.max-connections:50}") final int maxConnections,
+                                     @Value("${http-client.max-connections-per-route:20}") final int maxConnectionsPerRoute) {
+        final PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .build();
+        final CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(IDLE_CONNECTION_EVICT_SECONDS))
+                .build();
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public Executor authClientExecutor(@Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("auth-client-", 0).factory());
+        }
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(AUTH_CLIENT_CORE_POOL_SIZE);
+        executor.setMaxPoolSize(AUTH_CLIENT_MAX_POOL_SIZE);
+        executor.setQueueCapacity(AUTH_CLIENT_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("auth-client-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
     }
 
     @Bean
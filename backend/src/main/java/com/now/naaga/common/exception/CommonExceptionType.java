@@ -21,6 +21,18 @@ public enum CommonExceptionType implements BaseExceptionType {
             HttpStatus.BAD_REQUEST,
             "파일 저장하다 문제가 발생했습니다."
     ),
+
+    INVALID_IMAGE_FILE(
+            216,
+            HttpStatus.BAD_REQUEST,
+            "지원하지 않는 이미지 파일입니다."
+    ),
+
+    FILE_SIZE_EXCEEDED(
+            217,
+            HttpStatus.BAD_REQUEST,
+            "파일 용량이 너무 큽니다."
+    ),
     ;
 
     private final int errorCode;
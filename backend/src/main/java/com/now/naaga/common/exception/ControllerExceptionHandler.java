@@ -10,6 +10,7 @@ import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @RestControllerAdvice
 public class ControllerExceptionHandler {
@@ -36,6 +37,14 @@ public class ControllerExceptionHandler {
         return ResponseEntity.status(commonExceptionType.httpStatus()).body(exceptionResponse);
     }
 
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ExceptionResponse> handleMaxUploadSizeExceededException(final MaxUploadSizeExceededException e) {
+        final CommonExceptionType commonExceptionType = CommonExceptionType.FILE_SIZE_EXCEEDED;
+        final ExceptionResponse exceptionResponse = new ExceptionResponse(commonExceptionType.errorCode(), commonExceptionType.errorMessage());
+        log.warn("error = {}", exceptionResponse, e);
+        return ResponseEntity.status(commonExceptionType.httpStatus()).body(exceptionResponse);
+    }
+
     @ExceptionHandler(InternalException.class)
     public ResponseEntity<ExceptionResponse> handleInternalException(final InternalException e){
         final BaseExceptionType internalExceptionType = e.exceptionType();
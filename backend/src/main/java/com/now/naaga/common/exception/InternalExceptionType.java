@@ -27,6 +27,12 @@ public enum InternalExceptionType implements BaseExceptionType {
             HttpStatus.INTERNAL_SERVER_ERROR,
             "JSON를 객체로 변환하지 못했습니다."
     ),
+
+    FAIL_HASH_TOKEN(
+            10004,
+            HttpStatus.INTERNAL_SERVER_ERROR,
+            "토큰을 해싱하지 못했습니다."
+    ),
     ;
 
     private final int errorCode;
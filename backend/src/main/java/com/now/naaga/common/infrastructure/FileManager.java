@@ -6,5 +6,9 @@ public interface FileManager<T> {
 
     File save(T t);
 
+    void delete(File file);
+
     String convertToUrlPath(File file);
+
+    String convertToThumbnailUrlPath(File file);
 }
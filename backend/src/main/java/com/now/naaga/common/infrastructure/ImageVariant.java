@@ -0,0 +1,47 @@
+package com.now.naaga.common.infrastructure;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+enum ImageVariant {
+
+    DISPLAY("", 1080),
+    THUMBNAIL("_thumbnail", 320),
+    ;
+
+    private final String filenameSuffix;
+    private final int maxLength;
+
+    ImageVariant(final String filenameSuffix,
+                 final int maxLength) {
+        this.filenameSuffix = filenameSuffix;
+        this.maxLength = maxLength;
+    }
+
+    public String toFilename(final String baseName,
+                             final String extension) {
+        return baseName + filenameSuffix + extension;
+    }
+
+    public BufferedImage resize(final BufferedImage image) {
+        final int longerLength = Math.max(image.getWidth(), image.getHeight());
+        final double ratio = Math.min(1.0, (double) maxLength / longerLength);
+        final int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        final int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        final int imageType = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        final BufferedImage resizedImage = new BufferedImage(width, height, imageType);
+        final Graphics2D graphics = resizedImage.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resizedImage;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
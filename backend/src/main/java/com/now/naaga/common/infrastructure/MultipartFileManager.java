@@ -2,54 +2,222 @@ package com.now.naaga.common.infrastructure;
 
 import com.now.naaga.common.exception.CommonException;
 import com.now.naaga.common.exception.CommonExceptionType;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import com.now.naaga.common.exception.InternalException;
-import com.now.naaga.common.exception.InternalExceptionType;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import static com.now.naaga.common.exception.CommonExceptionType.FILE_SIZE_EXCEEDED;
+import static com.now.naaga.common.exception.CommonExceptionType.INVALID_IMAGE_FILE;
 import static com.now.naaga.common.exception.CommonExceptionType.INVALID_REQUEST_BODY;
 import static com.now.naaga.common.exception.InternalExceptionType.FAIL_MAKE_DIRECTORY;
 
 @Component
 public class MultipartFileManager implements FileManager<MultipartFile> {
 
+    private static final Map<String, String> OUTPUT_FORMATS = Map.of(
+            "png", "png",
+            "jpeg", "jpg",
+            "gif", "png"
+    );
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final long MAX_PIXEL_COUNT = 40_000_000L;
+    private static final String TEMP_FILE_PREFIX = "upload-";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final Set<PosixFilePermission> PUBLISHED_FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+
     private final String saveDirectory;
 
     private final String imagesUrlPrefix;
 
+    private final DataSize maxFileSize;
+
     public MultipartFileManager(@Value("${image.path.directory.prefix}") final String saveDirectory,
-                                @Value("${image.path.url.prefix}") final String imagesUrlPrefix) {
+                                @Value("${image.path.url.prefix}") final String imagesUrlPrefix,
+                                @Value("${spring.servlet.multipart.max-file-size:10MB}") final DataSize maxFileSize) {
         this.saveDirectory = saveDirectory;
         this.imagesUrlPrefix = imagesUrlPrefix;
+        this.maxFileSize = maxFileSize;
     }
 
     @Override
     public File save(final MultipartFile multipartFile) {
-        final File directory = new File(saveDirectory);
-        if (!directory.exists()) {
-            if (directory.mkdirs()) {
-                throw new InternalException(FAIL_MAKE_DIRECTORY);
-            }
-        }
-        final String originalFilename = multipartFile.getOriginalFilename();
-        if (Objects.isNull(originalFilename)) {
+        if (Objects.isNull(multipartFile.getOriginalFilename()) || multipartFile.isEmpty()) {
             throw new CommonException(INVALID_REQUEST_BODY);
         }
-        final String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-        final String savedFilename = UUID.randomUUID() + extension;
-        final File uploadPath = new File(saveDirectory, savedFilename);
+        if (multipartFile.getSize() > maxFileSize.toBytes()) {
+            throw new CommonException(FILE_SIZE_EXCEEDED);
+        }
+        final Path directory = createDirectory();
+        final Path uploadedFile = createTempFile(directory);
+        try {
+            copy(multipartFile, uploadedFile);
+            return storeVariants(read(uploadedFile), directory);
+        } finally {
+            deleteQuietly(uploadedFile);
+        }
+    }
+
+    private Path createDirectory() {
+        try {
+            return Files.createDirectories(Path.of(saveDirectory));
+        } catch (IOException e) {
+            throw new InternalException(FAIL_MAKE_DIRECTORY);
+        }
+    }
+
+    private Path createTempFile(final Path directory) {
         try {
-            multipartFile.transferTo(uploadPath);
+            return Files.createTempFile(directory, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
         } catch (IOException e) {
             throw new CommonException(CommonExceptionType.FILE_SAVE_ERROR);
         }
-        return uploadPath;
+    }
+
+    private void copy(final MultipartFile multipartFile,
+                      final Path target) {
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long copiedSize = 0;
+        try (ReadableByteChannel source = Channels.newChannel(multipartFile.getInputStream());
+             FileChannel destination = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                copiedSize += buffer.remaining();
+                if (copiedSize > maxFileSize.toBytes()) {
+                    throw new CommonException(FILE_SIZE_EXCEEDED);
+                }
+                while (buffer.hasRemaining()) {
+                    destination.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new CommonException(CommonExceptionType.FILE_SAVE_ERROR);
+        }
+    }
+
+    private DecodedImage read(final Path uploadedFile) {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(uploadedFile.toFile())) {
+            final ImageReader imageReader = findImageReader(imageInputStream);
+            try {
+                imageReader.setInput(imageInputStream, true, true);
+                final String extension = OUTPUT_FORMATS.get(imageReader.getFormatName().toLowerCase(Locale.ROOT));
+                if (Objects.isNull(extension)) {
+                    throw new CommonException(INVALID_IMAGE_FILE);
+                }
+                final int width = imageReader.getWidth(0);
+                final int height = imageReader.getHeight(0);
+                if ((long) width * height > MAX_PIXEL_COUNT) {
+                    throw new CommonException(INVALID_IMAGE_FILE);
+                }
+                final int subsampling = Math.max(1, Math.max(width, height) / (ImageVariant.DISPLAY.getMaxLength() * 2));
+                final ImageReadParam imageReadParam = imageReader.getDefaultReadParam();
+                imageReadParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new DecodedImage(imageReader.read(0, imageReadParam), extension);
+            } finally {
+                imageReader.dispose();
+            }
+        } catch (CommonException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new CommonException(INVALID_IMAGE_FILE);
+        }
+    }
+
+    private ImageReader findImageReader(final ImageInputStream imageInputStream) {
+        if (Objects.isNull(imageInputStream)) {
+            throw new CommonException(INVALID_IMAGE_FILE);
+        }
+        final Iterator<ImageReader> imageReaders = ImageIO.getImageReaders(imageInputStream);
+        if (!imageReaders.hasNext()) {
+            throw new CommonException(INVALID_IMAGE_FILE);
+        }
+        return imageReaders.next();
+    }
+
+    private File storeVariants(final DecodedImage decodedImage,
+                               final Path directory) {
+        final String baseName = UUID.randomUUID().toString();
+        final String extension = "." + decodedImage.extension();
+        final List<Path> storedFiles = new ArrayList<>();
+        try {
+            for (final ImageVariant imageVariant : ImageVariant.values()) {
+                final Path target = directory.resolve(imageVariant.toFilename(baseName, extension));
+                store(imageVariant.resize(decodedImage.image()), decodedImage.extension(), target);
+                storedFiles.add(target);
+            }
+        } catch (IOException | RuntimeException e) {
+            storedFiles.forEach(this::deleteQuietly);
+            throw new CommonException(CommonExceptionType.FILE_SAVE_ERROR);
+        }
+        return directory.resolve(ImageVariant.DISPLAY.toFilename(baseName, extension)).toFile();
+    }
+
+    private void store(final BufferedImage image,
+                       final String format,
+                       final Path target) throws IOException {
+        final Path tempFile = Files.createTempFile(target.getParent(), TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        try {
+            if (!ImageIO.write(image, format, tempFile.toFile())) {
+                throw new IOException("이미지를 " + format + " 형식으로 저장할 수 없습니다.");
+            }
+            publish(tempFile);
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void publish(final Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PUBLISHED_FILE_PERMISSIONS);
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
+    @Override
+    public void delete(final File file) {
+        final String filename = file.getName();
+        final int extensionIndex = filename.lastIndexOf(".");
+        final String baseName = filename.substring(0, extensionIndex);
+        final String extension = filename.substring(extensionIndex);
+        for (final ImageVariant imageVariant : ImageVariant.values()) {
+            deleteQuietly(file.toPath().resolveSibling(imageVariant.toFilename(baseName, extension)));
+        }
+    }
+
+    private void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
     }
 
     @Override
@@ -58,4 +226,17 @@ public class MultipartFileManager implements FileManager<MultipartFile> {
         final String fileNameIncludeDirectorySeparator = filePath.replaceAll(saveDirectory, "");
         return imagesUrlPrefix + fileNameIncludeDirectorySeparator;
     }
+
+    @Override
+    public String convertToThumbnailUrlPath(final File file) {
+        final String filename = file.getName();
+        final int extensionIndex = filename.lastIndexOf(".");
+        final String baseName = filename.substring(0, extensionIndex);
+        final String extension = filename.substring(extensionIndex);
+        final Path thumbnailPath = file.toPath().resolveSibling(ImageVariant.THUMBNAIL.toFilename(baseName, extension));
+        return convertToUrlPath(thumbnailPath.toFile());
+    }
+
+    private record DecodedImage(BufferedImage image, String extension) {
+    }
 }
@@ -2,6 +2,7 @@ package com.now.naaga.game.application;
 
 import com.now.naaga.game.application.dto.CreateGameCommand;
 import com.now.naaga.game.application.dto.EndGameCommand;
+import com.now.naaga.game.application.dto.EndGameResult;
 import com.now.naaga.game.application.dto.FindAllGamesCommand;
 import com.now.naaga.game.application.dto.FindGameByIdCommand;
 import com.now.naaga.game.application.dto.FindGameByStatusCommand;
@@ -11,6 +12,8 @@ import com.now.naaga.game.exception.GameException;
 import com.now.naaga.game.exception.GameNotArrivalException;
 import com.now.naaga.game.repository.GameRepository;
 import com.now.naaga.game.repository.GameResultRepository;
+import com.now.naaga.game.repository.PlayerStatisticRepository;
+import com.now.naaga.game.repository.cache.ActiveGameSessionCache;
 import com.now.naaga.place.application.PlaceService;
 import com.now.naaga.place.application.dto.RecommendPlaceCommand;
 import com.now.naaga.place.domain.Place;
@@ -20,10 +23,12 @@ import com.now.naaga.player.application.PlayerService;
 import com.now.naaga.player.domain.Player;
 import com.now.naaga.player.presentation.dto.PlayerRequest;
 import com.now.naaga.score.domain.Score;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.now.naaga.game.exception.GameExceptionType.*;
@@ -42,52 +47,113 @@ public class GameService {
 
     private final GameScoreCalculator gameScoreCalculator;
 
+    private final PlayerStatisticRepository playerStatisticRepository;
+
+    private final ActiveGameSessionCache activeGameSessionCache;
+
     public GameService(final GameRepository gameRepository,
             final GameResultRepository gameResultRepository,
             final PlayerService playerService,
             final PlaceService placeService,
-            final GameScoreCalculator gameScoreCalculator) {
+            final GameScoreCalculator gameScoreCalculator,
+            final PlayerStatisticRepository playerStatisticRepository,
+            final ActiveGameSessionCache activeGameSessionCache) {
         this.gameRepository = gameRepository;
         this.gameResultRepository = gameResultRepository;
         this.playerService = playerService;
         this.placeService = placeService;
         this.gameScoreCalculator = gameScoreCalculator;
+        this.playerStatisticRepository = playerStatisticRepository;
+        this.activeGameSessionCache = activeGameSessionCache;
     }
 
     public Game createGame(final CreateGameCommand createGameCommand) {
         final Player player = playerService.findPlayerById(createGameCommand.playerId());
-        final List<Game> gamesByStatus = gameRepository.findByPlayerIdAndGameStatus(player.getId(),
-                GameStatus.IN_PROGRESS);
-        if (!gamesByStatus.isEmpty()) {
+        if (gameRepository.existsByPlayerIdAndGameStatus(player.getId(), GameStatus.IN_PROGRESS)) {
             throw new GameException(ALREADY_IN_PROGRESS);
         }
         final Position position = createGameCommand.playerPosition();
+        final Place place = recommendPlace(position);
+        try {
+            return gameRepository.saveAndFlush(new Game(player, place, position));
+        } catch (DataIntegrityViolationException exception) {
+            throw new GameException(ALREADY_IN_PROGRESS);
+        }
+    }
+
+    private Place recommendPlace(final Position position) {
         final RecommendPlaceCommand recommendPlaceCommand = new RecommendPlaceCommand(position);
         try {
-            final Place place = placeService.recommendPlaceByPosition(recommendPlaceCommand);
-            final Game game = new Game(player, place, position);
-            return gameRepository.save(game);
+            return placeService.recommendPlaceByPosition(recommendPlaceCommand);
         } catch (PlaceException exception) {
             throw new GameException(CAN_NOT_FIND_PLACE);
         }
     }
 
     @Transactional(noRollbackFor = {GameNotArrivalException.class})
-    public void endGame(final EndGameCommand endGameCommand) {
-        final Game game = gameRepository.findById(endGameCommand.gameId())
+    public EndGameResult endGame(final EndGameCommand endGameCommand) {
+        final Long gameId = endGameCommand.gameId();
+        findActiveGameSession(gameId)
+                .filter(session -> session.isRetryableMiss(endGameCommand.endType(), endGameCommand.position()))
+                .ifPresent(session -> missAttempt(session, endGameCommand.playerId()));
+        rejectFinishedGame(gameId, endGameCommand.playerId());
+        activeGameSessionCache.evict(gameId);
+        final Game game = gameRepository.findWithPlaceById(gameId)
                 .orElseThrow(() -> new GameException(NOT_EXIST));
-        final Player player = playerService.findPlayerById(endGameCommand.playerId());
-        game.validateOwner(player);
+        game.validateOwner(endGameCommand.playerId());
         final ResultType resultType = game.endGame(endGameCommand.endType(), endGameCommand.position());
         final Score score = gameScoreCalculator.calculate(game, resultType);
+        if (gameRepository.finish(gameId, game.getRemainingAttempts(), game.getEndTime()) == 0) {
+            throw new GameException(ALREADY_DONE);
+        }
+        final Player player = playerService.findPlayerById(endGameCommand.playerId());
         player.addScore(score);
-        gameResultRepository.save(new GameResult(resultType, score, game));
+        final GameResult gameResult = gameResultRepository.save(new GameResult(resultType, score, game));
+        updatePlayerStatistic(player.getId(), gameResult);
+        activeGameSessionCache.markFinishedAfterCommit(gameId, player.getId());
+        return EndGameResult.of(game, resultType);
+    }
+
+    private void rejectFinishedGame(final Long gameId,
+                                    final Long playerId) {
+        final Optional<Long> finishedGamePlayerId = activeGameSessionCache.findFinishedGamePlayerId(gameId);
+        if (finishedGamePlayerId.isEmpty()) {
+            return;
+        }
+        if (!finishedGamePlayerId.get().equals(playerId)) {
+            throw new GameException(INACCESSIBLE_AUTHENTICATION);
+        }
+        throw new GameException(ALREADY_DONE);
+    }
+
+    private void missAttempt(final ActiveGameSession activeGameSession,
+                             final Long playerId) {
+        activeGameSession.validateOwner(playerId);
+        final Long gameId = activeGameSession.getGameId();
+        if (gameRepository.decreaseRemainingAttempts(gameId, GameStatus.IN_PROGRESS) == 0) {
+            return;
+        }
+        activeGameSessionCache.updateAfterCommit(gameId, ActiveGameSession::missAttempt);
+        throw new GameNotArrivalException(NOT_ARRIVED);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ActiveGameSession> findActiveGameSession(final Long gameId) {
+        return activeGameSessionCache.findOrLoad(gameId, this::loadActiveGameSession);
+    }
+
+    private Optional<ActiveGameSession> loadActiveGameSession(final Long gameId) {
+        final Optional<Game> game = gameRepository.findWithPlaceById(gameId);
+        game.filter(loadedGame -> loadedGame.getGameStatus() == GameStatus.DONE)
+                .ifPresent(doneGame -> activeGameSessionCache.markFinished(gameId, doneGame.getPlayer().getId()));
+        return game.filter(loadedGame -> loadedGame.getGameStatus() == GameStatus.IN_PROGRESS)
+                .map(ActiveGameSession::from);
     }
 
     @Transactional(readOnly = true)
     public Game findGameById(final FindGameByIdCommand findGameByIdCommand) {
         final Player player = playerService.findPlayerById(findGameByIdCommand.playerId());
-        final Game game = gameRepository.findById(findGameByIdCommand.gameId())
+        final Game game = gameRepository.findWithDetailsById(findGameByIdCommand.gameId())
                 .orElseThrow(() -> new GameException(NOT_EXIST));
         game.validateOwner(player);
         return game;
@@ -118,12 +184,7 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public List<GameRecord> findAllGameResult(final PlayerRequest playerRequest) {
-        final List<Game> gamesByPlayerId = gameRepository.findByPlayerId(playerRequest.playerId());
-        final List<GameResult> gameResults = gamesByPlayerId.stream()
-                .map(game -> findGameResultByGameId(game.getId()))
-                .sorted((gr1, gr2) -> gr2.getCreatedAt().compareTo(gr1.getCreatedAt()))
-                .toList();
-
+        final List<GameResult> gameResults = gameResultRepository.findAllWithGameByPlayerId(playerRequest.playerId());
         return gameResults.stream()
                 .map(GameRecord::from)
                 .collect(Collectors.toList());
@@ -131,19 +192,32 @@ public class GameService {
 
     @Transactional(readOnly = true)
     public Statistic findStatistic(final PlayerRequest playerRequest) {
-        final List<Game> gamesByPlayerId = gameRepository.findByPlayerIdAndGameStatus(playerRequest.playerId(),
-                GameStatus.DONE);
-        final List<GameResult> gameResults = gamesByPlayerId.stream()
-                .map(game -> findGameResultByGameId(game.getId()))
-                .toList();
-        final List<GameRecord> gameRecords = gameResults.stream()
-                .map(GameRecord::from).toList();
+        final Long playerId = playerRequest.playerId();
+        final PlayerStatistic playerStatistic = playerStatisticRepository.findById(playerId)
+                .orElseGet(() -> aggregatePlayerStatistic(playerId));
+        return playerStatistic.toStatistic();
+    }
 
-        return Statistic.of(gameRecords);
+    @Transactional(readOnly = true)
+    public PlayerStatistic aggregatePlayerStatistic(final Long playerId) {
+        final List<GameRecord> gameRecords = gameResultRepository.findAllWithGameByPlayerIdAndGameStatus(playerId, GameStatus.DONE)
+                .stream()
+                .map(GameRecord::from)
+                .toList();
+        return PlayerStatistic.of(playerId, gameRecords);
     }
 
     @Transactional(readOnly = true)
     public List<Game> findAllGames(FindAllGamesCommand findAllGamesCommand) {
         return gameRepository.findByPlayerId(findAllGamesCommand.playerId());
     }
+
+    private void updatePlayerStatistic(final Long playerId,
+                                       final GameResult gameResult) {
+        playerStatisticRepository.findById(playerId)
+                .ifPresentOrElse(
+                        playerStatistic -> playerStatistic.add(GameRecord.from(gameResult)),
+                        () -> playerStatisticRepository.save(aggregatePlayerStatistic(playerId))
+                );
+    }
 }
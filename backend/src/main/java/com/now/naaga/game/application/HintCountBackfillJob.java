@@ -0,0 +1,43 @@
+package com.now.naaga.game.application;
+
+import com.now.naaga.game.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ConditionalOnProperty(name = "backfill.hint-count.enabled", havingValue = "true")
+@Component
+public class HintCountBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(HintCountBackfillJob.class);
+
+    private static final long BATCH_SIZE = 1_000L;
+
+    private final GameRepository gameRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public HintCountBackfillJob(final GameRepository gameRepository,
+                                final TransactionTemplate transactionTemplate) {
+        this.gameRepository = gameRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        final long maxGameId = gameRepository.findMaxId().orElse(0L);
+        int backfilledCount = 0;
+        for (long afterId = 0L; afterId < maxGameId; afterId += BATCH_SIZE) {
+            final long fromId = afterId;
+            final long untilId = Math.min(afterId + BATCH_SIZE, maxGameId);
+            backfilledCount += transactionTemplate.execute(status -> gameRepository.backfillHintCount(fromId, untilId));
+        }
+        if (backfilledCount > 0) {
+            log.info("게임의 힌트 사용 횟수를 백필했습니다. count={}", backfilledCount);
+        }
+    }
+}
@@ -1,52 +1,90 @@
 package com.now.naaga.game.application;
 
 import com.now.naaga.game.application.dto.CreateHintCommand;
-import com.now.naaga.game.application.dto.FindGameByIdCommand;
 import com.now.naaga.game.application.dto.FindHintByIdCommand;
+import com.now.naaga.game.domain.ActiveGameSession;
 import com.now.naaga.game.domain.Direction;
 import com.now.naaga.game.domain.Game;
 import com.now.naaga.game.domain.Hint;
 import com.now.naaga.game.exception.GameException;
+import com.now.naaga.game.repository.GameRepository;
 import com.now.naaga.game.repository.HintRepository;
-import com.now.naaga.place.domain.Place;
+import com.now.naaga.game.repository.cache.ActiveGameSessionCache;
 import com.now.naaga.place.domain.Position;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.now.naaga.game.domain.Game.MAX_HINT_COUNT;
 import static com.now.naaga.game.exception.GameExceptionType.HINTS_EXHAUSTED;
 import static com.now.naaga.game.exception.GameExceptionType.HINT_NOT_EXIST_IN_GAME;
+import static com.now.naaga.game.exception.GameExceptionType.NOT_EXIST;
 
 @Transactional
 @Service
 public class HintService {
 
     private final HintRepository hintRepository;
+    private final GameRepository gameRepository;
     private final GameService gameService;
+    private final ActiveGameSessionCache activeGameSessionCache;
 
     public HintService(final HintRepository hintRepository,
-                       final GameService gameService) {
+                       final GameRepository gameRepository,
+                       final GameService gameService,
+                       final ActiveGameSessionCache activeGameSessionCache) {
         this.hintRepository = hintRepository;
+        this.gameRepository = gameRepository;
         this.gameService = gameService;
+        this.activeGameSessionCache = activeGameSessionCache;
     }
 
     public Hint createHint(final CreateHintCommand command) {
-        final Game game = gameService.findGameById(new FindGameByIdCommand(command.gameId(), command.playerId()));
+        return gameService.findActiveGameSession(command.gameId())
+                .map(activeGameSession -> createHint(activeGameSession, command))
+                .orElseGet(() -> createHintByGame(command));
+    }
+
+    private Hint createHint(final ActiveGameSession activeGameSession,
+                            final CreateHintCommand command) {
+        activeGameSession.validateOwner(command.playerId());
+        if (!activeGameSession.canUseMoreHint()) {
+            throw new GameException(HINTS_EXHAUSTED);
+        }
+        increaseHintCount(command.gameId());
+        final Position coordinate = command.coordinate();
+        final Direction direction = activeGameSession.findDirection(coordinate);
+        final Hint hint = new Hint(coordinate, direction, gameRepository.getReferenceById(command.gameId()));
+        final Hint savedHint = hintRepository.save(hint);
+        activeGameSessionCache.updateAfterCommit(command.gameId(), ActiveGameSession::useHint);
+        return savedHint;
+    }
+
+    private Hint createHintByGame(final CreateHintCommand command) {
+        final Game game = gameRepository.findWithPlaceById(command.gameId())
+                .orElseThrow(() -> new GameException(NOT_EXIST));
+        game.validateOwner(command.playerId());
         if (!game.canUseMoreHint()) {
             throw new GameException(HINTS_EXHAUSTED);
         }
+        increaseHintCount(game.getId());
         final Position coordinate = command.coordinate();
-        final Place place = game.getPlace();
-        final Direction direction = Direction.calculate(coordinate, place.getPosition());
+        final Direction direction = Direction.calculate(coordinate, game.getPlace().getPosition());
         final Hint hint = new Hint(coordinate, direction, game);
         return hintRepository.save(hint);
     }
 
+    private void increaseHintCount(final Long gameId) {
+        if (gameRepository.increaseHintCount(gameId, MAX_HINT_COUNT) == 0) {
+            activeGameSessionCache.evict(gameId);
+            throw new GameException(HINTS_EXHAUSTED);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public Hint findHintById(final FindHintByIdCommand command) {
-        final Game game = gameService.findGameById(new FindGameByIdCommand(command.gameId(), command.playerId()));
-        return game.getHints()
-                .stream()
-                .filter(hint -> hint.getId().equals(command.hintId()))
-                .findAny()
+        final Hint hint = hintRepository.findByIdAndGameId(command.hintId(), command.gameId())
                 .orElseThrow(() -> new GameException(HINT_NOT_EXIST_IN_GAME));
+        hint.getGame().validateOwner(command.playerId());
+        return hint;
     }
 }
@@ -0,0 +1,59 @@
+package com.now.naaga.game.application;
+
+import com.now.naaga.game.repository.PlayerStatisticRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ConditionalOnProperty(name = "backfill.player-statistic.enabled", havingValue = "true")
+@Component
+public class PlayerStatisticBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerStatisticBackfillJob.class);
+
+    private static final int BATCH_SIZE = 100;
+
+    private final PlayerStatisticRepository playerStatisticRepository;
+
+    private final GameService gameService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PlayerStatisticBackfillJob(final PlayerStatisticRepository playerStatisticRepository,
+                                      final GameService gameService,
+                                      final TransactionTemplate transactionTemplate) {
+        this.playerStatisticRepository = playerStatisticRepository;
+        this.gameService = gameService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastPlayerId = 0L;
+        List<Long> playerIds = playerStatisticRepository.findPlayerIdsWithoutStatistic(lastPlayerId, PageRequest.of(0, BATCH_SIZE));
+        while (!playerIds.isEmpty()) {
+            playerIds.forEach(this::backfill);
+            lastPlayerId = playerIds.get(playerIds.size() - 1);
+            playerIds = playerStatisticRepository.findPlayerIdsWithoutStatistic(lastPlayerId, PageRequest.of(0, BATCH_SIZE));
+        }
+    }
+
+    private void backfill(final Long playerId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!playerStatisticRepository.existsById(playerId)) {
+                    playerStatisticRepository.save(gameService.aggregatePlayerStatistic(playerId));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("플레이어 통계가 이미 생성되어 백필을 건너뜁니다. playerId={}", playerId);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.now.naaga.game.application.dto;
+
+import com.now.naaga.game.domain.Game;
+import com.now.naaga.game.domain.GameStatus;
+import com.now.naaga.game.domain.ResultType;
+
+public record EndGameResult(Long gameId,
+                            GameStatus gameStatus,
+                            ResultType resultType) {
+
+    public static EndGameResult of(final Game game,
+                                   final ResultType resultType) {
+        return new EndGameResult(game.getId(), game.getGameStatus(), resultType);
+    }
+}
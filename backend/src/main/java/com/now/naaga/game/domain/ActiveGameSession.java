@@ -0,0 +1,125 @@
+package com.now.naaga.game.domain;
+
+import static com.now.naaga.game.domain.EndType.ARRIVED;
+import static com.now.naaga.game.domain.Game.MAX_HINT_COUNT;
+import static com.now.naaga.game.domain.Game.MIN_RANGE;
+import static com.now.naaga.game.exception.GameExceptionType.INACCESSIBLE_AUTHENTICATION;
+
+import com.now.naaga.game.exception.GameException;
+import com.now.naaga.place.domain.Position;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ActiveGameSession {
+
+    private final Long gameId;
+
+    private final Long playerId;
+
+    private final Position destination;
+
+    private final Position startPosition;
+
+    private final LocalDateTime startTime;
+
+    private final AtomicInteger remainingAttempts;
+
+    private final AtomicInteger hintCount;
+
+    public ActiveGameSession(final Long gameId,
+                             final Long playerId,
+                             final Position destination,
+                             final Position startPosition,
+                             final LocalDateTime startTime,
+                             final int remainingAttempts,
+                             final int hintCount) {
+        this.gameId = gameId;
+        this.playerId = playerId;
+        this.destination = destination;
+        this.startPosition = startPosition;
+        this.startTime = startTime;
+        this.remainingAttempts = new AtomicInteger(remainingAttempts);
+        this.hintCount = new AtomicInteger(hintCount);
+    }
+
+    public static ActiveGameSession from(final Game game) {
+        return new ActiveGameSession(
+                game.getId(),
+                game.getPlayer().getId(),
+                game.getPlace().getPosition(),
+                game.getStartPosition(),
+                game.getStartTime(),
+                game.getRemainingAttempts(),
+                game.getHintCount()
+        );
+    }
+
+    public void validateOwner(final Long playerId) {
+        if (!this.playerId.equals(playerId)) {
+            throw new GameException(INACCESSIBLE_AUTHENTICATION);
+        }
+    }
+
+    public boolean canUseMoreHint() {
+        return hintCount.get() < MAX_HINT_COUNT;
+    }
+
+    public Direction findDirection(final Position position) {
+        return Direction.calculate(position, destination);
+    }
+
+    public void useHint() {
+        hintCount.incrementAndGet();
+    }
+
+    public boolean isRetryableMiss(final EndType endType, final Position position) {
+        return endType == ARRIVED
+                && destination.calculateDistance(position) > MIN_RANGE
+                && remainingAttempts.get() > 1;
+    }
+
+    public void missAttempt() {
+        remainingAttempts.decrementAndGet();
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public Position getDestination() {
+        return destination;
+    }
+
+    public Position getStartPosition() {
+        return startPosition;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public int getRemainingAttempts() {
+        return remainingAttempts.get();
+    }
+
+    public int getHintCount() {
+        return hintCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ActiveGameSession{" +
+                "gameId=" + gameId +
+                ", playerId=" + playerId +
+                ", destination=" + destination +
+                ", startPosition=" + startPosition +
+                ", startTime=" + startTime +
+                ", remainingAttempts=" + remainingAttempts +
+                ", hintCount=" + hintCount +
+                '}';
+    }
+}
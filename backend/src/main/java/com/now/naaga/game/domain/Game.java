@@ -22,12 +22,16 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -35,6 +39,10 @@ import java.util.List;
 import java.util.Objects;
 import org.springframework.data.geo.Distance;
 
+@Table(
+        indexes = @Index(name = "idx_game_player_id_game_status", columnList = "player_id, gameStatus"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_game_active_player_id", columnNames = "activePlayerId")
+)
 @Entity
 public class Game extends BaseEntity {
 
@@ -49,11 +57,13 @@ public class Game extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private GameStatus gameStatus;
 
-    @ManyToOne
+    private Long activePlayerId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_id")
     private Player player;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "place_id")
     private Place place;
 
@@ -69,6 +79,8 @@ public class Game extends BaseEntity {
     @OneToMany(mappedBy = "game")
     private List<Hint> hints;
 
+    private int hintCount;
+
     private LocalDateTime startTime;
 
     private LocalDateTime endTime;
@@ -102,23 +114,36 @@ public class Game extends BaseEntity {
                 final LocalDateTime endTime) {
         this.id = id;
         this.gameStatus = gameStatus;
+        this.activePlayerId = findActivePlayerId(gameStatus, player);
         this.player = player;
         this.place = place;
         this.startPosition = startPosition;
         this.remainingAttempts = remainingAttempts;
         this.hints = hints;
+        this.hintCount = hints.size();
         this.startTime = startTime;
         this.endTime = endTime;
     }
 
+    private static Long findActivePlayerId(final GameStatus gameStatus, final Player player) {
+        if (gameStatus != IN_PROGRESS || Objects.isNull(player)) {
+            return null;
+        }
+        return player.getId();
+    }
+
     public void validateOwner(final Player player) {
-        if (!this.player.equals(player)) {
+        validateOwner(player.getId());
+    }
+
+    public void validateOwner(final Long playerId) {
+        if (!Objects.equals(this.player.getId(), playerId)) {
             throw new GameException(INACCESSIBLE_AUTHENTICATION);
         }
     }
 
     public boolean canUseMoreHint() {
-        return hints.size() < MAX_HINT_COUNT;
+        return hintCount < MAX_HINT_COUNT;
     }
 
     public ResultType endGame(final EndType endType, final Position position) {
@@ -136,8 +161,7 @@ public class Game extends BaseEntity {
     }
 
     private ResultType giveUpGame() {
-        gameStatus = DONE;
-        endTime = LocalDateTime.now();
+        finish();
         return FAIL;
     }
 
@@ -154,19 +178,23 @@ public class Game extends BaseEntity {
     }
 
     private ResultType endGameWithSuccess() {
-        gameStatus = DONE;
-        endTime = LocalDateTime.now();
+        finish();
         return SUCCESS;
     }
 
     private ResultType endGameWithFailure() {
         if (remainingAttempts == 0) {
-            gameStatus = DONE;
-            endTime = LocalDateTime.now();
+            finish();
             return FAIL;
         }
         throw new GameNotArrivalException(NOT_ARRIVED);
     }
+
+    private void finish() {
+        gameStatus = DONE;
+        activePlayerId = null;
+        endTime = LocalDateTime.now();
+    }
     
     public double findDistance() {
         final Position destinationPosition = place.getPosition();
@@ -201,6 +229,10 @@ public class Game extends BaseEntity {
         return hints;
     }
 
+    public int getHintCount() {
+        return hintCount;
+    }
+
     public LocalDateTime getStartTime() {
         return startTime;
     }
@@ -214,11 +246,10 @@ public class Game extends BaseEntity {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof final Game game)) {
             return false;
         }
-        final Game game = (Game) o;
-        return Objects.equals(id, game.id);
+        return Objects.equals(id, game.getId());
     }
 
     @Override
@@ -235,7 +266,7 @@ public class Game extends BaseEntity {
                 ", placeId=" + place.getId() +
                 ", startPosition=" + startPosition +
                 ", remainingAttempts=" + remainingAttempts +
-                ", hints=" + hints +
+                ", hintCount=" + hintCount +
                 ", startTime=" + startTime +
                 '}';
     }
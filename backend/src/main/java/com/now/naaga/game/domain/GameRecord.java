@@ -37,7 +37,7 @@ public class GameRecord {
     public static GameRecord from(final GameResult gameResult) {
         final Duration totalPlayTime = calculateTotalPlayTime(gameResult.getGame().getStartTime(), gameResult.getGame().getEndTime());
         final int distance = calculateDistance(gameResult.getGame().getStartPosition(), gameResult.getGame().getPlace().getPosition());
-        final int hintUses = gameResult.getGame().getHints().size();
+        final int hintUses = gameResult.getGame().getHintCount();
         final int tryCount = MAX_ATTEMPT_COUNT - gameResult.getGame().getRemainingAttempts();
         final LocalDateTime startTime = gameResult.getGame().getStartTime();
         final LocalDateTime finishTime = gameResult.getGame().getEndTime();
@@ -0,0 +1,134 @@
+package com.now.naaga.game.domain;
+
+import com.now.naaga.common.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import java.util.List;
+import java.util.Objects;
+
+@Entity
+public class PlayerStatistic extends BaseEntity {
+
+    @Id
+    private Long playerId;
+
+    private int gameCount;
+
+    private int successGameCount;
+
+    private int failGameCount;
+
+    private long totalDistance;
+
+    private long totalPlayTimeSeconds;
+
+    private int totalUsedHintCount;
+
+    @Version
+    private Long version;
+
+    protected PlayerStatistic() {
+    }
+
+    public PlayerStatistic(final Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public static PlayerStatistic of(final Long playerId,
+                                     final List<GameRecord> gameRecords) {
+        final PlayerStatistic playerStatistic = new PlayerStatistic(playerId);
+        final StatisticAccumulator accumulator = new StatisticAccumulator();
+        gameRecords.forEach(accumulator::add);
+        playerStatistic.apply(accumulator);
+        return playerStatistic;
+    }
+
+    public void add(final GameRecord gameRecord) {
+        final StatisticAccumulator accumulator = toAccumulator();
+        accumulator.add(gameRecord);
+        apply(accumulator);
+    }
+
+    public Statistic toStatistic() {
+        return toAccumulator().toStatistic();
+    }
+
+    public StatisticAccumulator toAccumulator() {
+        return new StatisticAccumulator(
+                gameCount,
+                successGameCount,
+                failGameCount,
+                totalDistance,
+                totalPlayTimeSeconds,
+                totalUsedHintCount
+        );
+    }
+
+    private void apply(final StatisticAccumulator accumulator) {
+        this.gameCount = accumulator.getGameCount();
+        this.successGameCount = accumulator.getSuccessGameCount();
+        this.failGameCount = accumulator.getFailGameCount();
+        this.totalDistance = accumulator.getTotalDistance();
+        this.totalPlayTimeSeconds = accumulator.getTotalPlayTimeSeconds();
+        this.totalUsedHintCount = accumulator.getTotalUsedHintCount();
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public int getSuccessGameCount() {
+        return successGameCount;
+    }
+
+    public int getFailGameCount() {
+        return failGameCount;
+    }
+
+    public long getTotalDistance() {
+        return totalDistance;
+    }
+
+    public long getTotalPlayTimeSeconds() {
+        return totalPlayTimeSeconds;
+    }
+
+    public int getTotalUsedHintCount() {
+        return totalUsedHintCount;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PlayerStatistic that = (PlayerStatistic) o;
+        return Objects.equals(playerId, that.playerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerId);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerStatistic{" +
+                "playerId=" + playerId +
+                ", gameCount=" + gameCount +
+                ", successGameCount=" + successGameCount +
+                ", failGameCount=" + failGameCount +
+                ", totalDistance=" + totalDistance +
+                ", totalPlayTimeSeconds=" + totalPlayTimeSeconds +
+                ", totalUsedHintCount=" + totalUsedHintCount +
+                '}';
+    }
+}
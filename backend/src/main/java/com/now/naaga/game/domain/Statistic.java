@@ -3,9 +3,6 @@ package com.now.naaga.game.domain;
 import java.time.Duration;
 import java.util.List;
 
-import static com.now.naaga.game.domain.ResultType.FAIL;
-import static com.now.naaga.game.domain.ResultType.SUCCESS;
-
 public class Statistic {
 
     private int gameCount;
@@ -30,46 +27,11 @@ public class Statistic {
     }
 
     public static Statistic of(final List<GameRecord> gameRecords) {
-        return new Statistic(
-                gameRecords.size(),
-                countGameResultsSuccess(gameRecords),
-                countGameResultsFail(gameRecords),
-                sumTotalDistance(gameRecords),
-                sumTotalPlayTime(gameRecords),
-                countUsedHits(gameRecords)
-        );
-    }
-
-    private static int countGameResultsSuccess(final List<GameRecord> gameRecords) {
-        return (int) gameRecords.stream()
-                .filter(gameRecord -> gameRecord.getGameResult().getResultType() == SUCCESS)
-                .count();
-    }
-
-    private static int countGameResultsFail(final List<GameRecord> gameRecords) {
-        return (int) gameRecords.stream()
-                .filter(gameRecord -> gameRecord.getGameResult().getResultType() == FAIL)
-                .count();
-    }
-
-    private static int sumTotalDistance(final List<GameRecord> gameRecords) {
-        return gameRecords.stream()
-                .mapToInt(GameRecord::getDistance)
-                .sum();
-    }
-
-    public static Duration sumTotalPlayTime(List<GameRecord> gameRecords) {
-        Duration playTime = Duration.ZERO;
-        for (GameRecord gameRecord : gameRecords) {
-            playTime = playTime.plus(gameRecord.getTotalPlayTime());
+        final StatisticAccumulator accumulator = new StatisticAccumulator();
+        for (final GameRecord gameRecord : gameRecords) {
+            accumulator.add(gameRecord);
         }
-        return playTime;
-    }
-
-    private static int countUsedHits(final List<GameRecord> gameRecords) {
-        return gameRecords.stream()
-                .mapToInt(GameRecord::getHintUses)
-                .sum();
+        return accumulator.toStatistic();
     }
 
     public int durationToInteger(Duration duration){
@@ -0,0 +1,102 @@
+package com.now.naaga.game.domain;
+
+import static com.now.naaga.game.domain.ResultType.FAIL;
+import static com.now.naaga.game.domain.ResultType.SUCCESS;
+
+import java.time.Duration;
+import java.util.stream.Collector;
+
+public class StatisticAccumulator {
+
+    private int gameCount;
+    private int successGameCount;
+    private int failGameCount;
+    private long totalDistance;
+    private long totalPlayTimeSeconds;
+    private int totalUsedHintCount;
+
+    public StatisticAccumulator() {
+    }
+
+    public StatisticAccumulator(final int gameCount,
+                                final int successGameCount,
+                                final int failGameCount,
+                                final long totalDistance,
+                                final long totalPlayTimeSeconds,
+                                final int totalUsedHintCount) {
+        this.gameCount = gameCount;
+        this.successGameCount = successGameCount;
+        this.failGameCount = failGameCount;
+        this.totalDistance = totalDistance;
+        this.totalPlayTimeSeconds = totalPlayTimeSeconds;
+        this.totalUsedHintCount = totalUsedHintCount;
+    }
+
+    public static Collector<GameRecord, StatisticAccumulator, Statistic> summarizing() {
+        return Collector.of(
+                StatisticAccumulator::new,
+                StatisticAccumulator::add,
+                StatisticAccumulator::merge,
+                StatisticAccumulator::toStatistic
+        );
+    }
+
+    public void add(final GameRecord gameRecord) {
+        final ResultType resultType = gameRecord.getGameResult().getResultType();
+        gameCount++;
+        if (resultType == SUCCESS) {
+            successGameCount++;
+        }
+        if (resultType == FAIL) {
+            failGameCount++;
+        }
+        totalDistance += gameRecord.getDistance();
+        totalPlayTimeSeconds += gameRecord.getTotalPlayTime().getSeconds();
+        totalUsedHintCount += gameRecord.getHintUses();
+    }
+
+    public StatisticAccumulator merge(final StatisticAccumulator other) {
+        gameCount += other.gameCount;
+        successGameCount += other.successGameCount;
+        failGameCount += other.failGameCount;
+        totalDistance += other.totalDistance;
+        totalPlayTimeSeconds += other.totalPlayTimeSeconds;
+        totalUsedHintCount += other.totalUsedHintCount;
+        return this;
+    }
+
+    public Statistic toStatistic() {
+        return new Statistic(
+                gameCount,
+                successGameCount,
+                failGameCount,
+                (int) totalDistance,
+                Duration.ofSeconds(totalPlayTimeSeconds),
+                totalUsedHintCount
+        );
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public int getSuccessGameCount() {
+        return successGameCount;
+    }
+
+    public int getFailGameCount() {
+        return failGameCount;
+    }
+
+    public long getTotalDistance() {
+        return totalDistance;
+    }
+
+    public long getTotalPlayTimeSeconds() {
+        return totalPlayTimeSeconds;
+    }
+
+    public int getTotalUsedHintCount() {
+        return totalUsedHintCount;
+    }
+}
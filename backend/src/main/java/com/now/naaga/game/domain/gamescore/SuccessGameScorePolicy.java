@@ -32,7 +32,7 @@ public class SuccessGameScorePolicy implements GameScorePolicy {
     }
     
     private Score calculateHintScore(final Game game) {
-        final int usedHintCount = game.getHints().size();
+        final int usedHintCount = game.getHintCount();
         final double maxHintScore = BASE_SCORE.getValue() * HINT_SCORE_RATIO;
         final double hintScoreValue = maxHintScore - ((maxHintScore / MAX_HINT_COUNT) * usedHintCount);
         return new Score((int) hintScoreValue);
@@ -61,9 +61,8 @@ public class GameController {
     public ResponseEntity<GameStatusResponse> endGame(@Auth final PlayerRequest playerRequest,
                                                       @RequestBody final EndGameRequest endGameRequest,
                                                       @PathVariable final Long gameId) {
-        gameService.endGame(EndGameCommand.of(playerRequest, endGameRequest, gameId));
-        Game game = gameService.findGameById(FindGameByIdCommand.of(playerRequest, gameId));
-        return ResponseEntity.ok(GameStatusResponse.from(game));
+        final EndGameResult endGameResult = gameService.endGame(EndGameCommand.of(playerRequest, endGameRequest, gameId));
+        return ResponseEntity.ok(GameStatusResponse.from(endGameResult));
     }
 
     @GetMapping("/{gameId}")
@@ -6,9 +6,10 @@ public record GameDestinationResponse(Long id,
                                       String name,
                                       CoordinateResponse coordinate,
                                       String imageUrl,
+                                      String thumbnailUrl,
                                       String description) {
 
     public static GameDestinationResponse from(final Place place) {
-        return new GameDestinationResponse(place.getId(), place.getName(), CoordinateResponse.of(place.getPosition()), place.getImageUrl(), place.getDescription());
+        return new GameDestinationResponse(place.getId(), place.getName(), CoordinateResponse.of(place.getPosition()), place.getImageUrl(), place.getThumbnailUrl(), place.getDescription());
     }
 }
@@ -1,6 +1,7 @@
 package com.now.naaga.game.presentation.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.now.naaga.game.application.dto.EndGameResult;
 import com.now.naaga.game.domain.Game;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -10,4 +11,8 @@ public record GameStatusResponse(Long id,
     public static GameStatusResponse from(final Game game) {
         return new GameStatusResponse(game.getId(), game.getGameStatus().toString());
     }
+
+    public static GameStatusResponse from(final EndGameResult endGameResult) {
+        return new GameStatusResponse(endGameResult.gameId(), endGameResult.gameStatus().toString());
+    }
 }
@@ -2,13 +2,92 @@ package com.now.naaga.game.repository;
 
 import com.now.naaga.game.domain.Game;
 import com.now.naaga.game.domain.GameStatus;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface GameRepository extends JpaRepository<Game, Long> {
 
-    List<Game> findByPlayerIdAndGameStatus(final Long playerId,
-                                           final GameStatus gameStatus);
+    @Query("SELECT DISTINCT game FROM Game game " +
+            "JOIN FETCH game.player " +
+            "JOIN FETCH game.place " +
+            "LEFT JOIN FETCH game.hints " +
+            "WHERE game.id = :gameId")
+    Optional<Game> findWithDetailsById(@Param("gameId") final Long gameId);
 
-    List<Game> findByPlayerId(Long playerId);
+    @Query("SELECT game FROM Game game " +
+            "JOIN FETCH game.place " +
+            "WHERE game.id = :gameId")
+    Optional<Game> findWithPlaceById(@Param("gameId") final Long gameId);
+
+    @Query("SELECT DISTINCT game FROM Game game " +
+            "JOIN FETCH game.player player " +
+            "JOIN FETCH game.place " +
+            "LEFT JOIN FETCH game.hints " +
+            "WHERE player.id = :playerId " +
+            "AND game.gameStatus = :gameStatus " +
+            "ORDER BY game.id")
+    List<Game> findByPlayerIdAndGameStatus(@Param("playerId") final Long playerId,
+                                           @Param("gameStatus") final GameStatus gameStatus);
+
+    boolean existsByPlayerIdAndGameStatus(final Long playerId,
+                                          final GameStatus gameStatus);
+
+    @Query("SELECT DISTINCT game FROM Game game " +
+            "JOIN FETCH game.player player " +
+            "JOIN FETCH game.place " +
+            "LEFT JOIN FETCH game.hints " +
+            "WHERE player.id = :playerId " +
+            "ORDER BY game.id")
+    List<Game> findByPlayerId(@Param("playerId") final Long playerId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Game game " +
+            "SET game.remainingAttempts = game.remainingAttempts - 1 " +
+            "WHERE game.id = :gameId " +
+            "AND game.gameStatus = :gameStatus " +
+            "AND game.remainingAttempts > 1")
+    int decreaseRemainingAttempts(@Param("gameId") final Long gameId,
+                                  @Param("gameStatus") final GameStatus gameStatus);
+
+    @Query("SELECT MAX(game.id) FROM Game game")
+    Optional<Long> findMaxId();
+
+    @Modifying
+    @Query(value = "UPDATE game " +
+            "SET hint_count = (SELECT COUNT(*) FROM hint WHERE hint.game_id = game.id) " +
+            "WHERE game.id > :afterId " +
+            "AND game.id <= :untilId " +
+            "AND hint_count <> (SELECT COUNT(*) FROM hint WHERE hint.game_id = game.id)",
+            nativeQuery = true)
+    int backfillHintCount(@Param("afterId") final Long afterId,
+                          @Param("untilId") final Long untilId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Game game " +
+            "SET game.hintCount = game.hintCount + 1 " +
+            "WHERE game.id = :gameId " +
+            "AND game.hintCount < :maxHintCount")
+    int increaseHintCount(@Param("gameId") final Long gameId,
+                          @Param("maxHintCount") final int maxHintCount);
+
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("UPDATE Game game " +
+            "SET game.gameStatus = com.now.naaga.game.domain.GameStatus.DONE, " +
+            "game.activePlayerId = NULL, " +
+            "game.remainingAttempts = :remainingAttempts, " +
+            "game.endTime = :endTime " +
+            "WHERE game.id = :gameId " +
+            "AND game.gameStatus = com.now.naaga.game.domain.GameStatus.IN_PROGRESS")
+    int finish(@Param("gameId") final Long gameId,
+               @Param("remainingAttempts") final int remainingAttempts,
+               @Param("endTime") final LocalDateTime endTime);
 }
@@ -1,10 +1,33 @@
 package com.now.naaga.game.repository;
 
 import com.now.naaga.game.domain.GameResult;
+import com.now.naaga.game.domain.GameStatus;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface GameResultRepository extends JpaRepository<GameResult, Long> {
 
-    List<GameResult> findByGameId(final Long gameId);
+    @Query("SELECT gameResult FROM GameResult gameResult " +
+            "JOIN FETCH gameResult.game game " +
+            "JOIN FETCH game.place " +
+            "WHERE game.id = :gameId")
+    List<GameResult> findByGameId(@Param("gameId") final Long gameId);
+
+    @Query("SELECT gameResult FROM GameResult gameResult " +
+            "JOIN FETCH gameResult.game game " +
+            "JOIN FETCH game.place " +
+            "WHERE game.player.id = :playerId " +
+            "ORDER BY gameResult.createdAt DESC")
+    List<GameResult> findAllWithGameByPlayerId(@Param("playerId") final Long playerId);
+
+    @Query("SELECT gameResult FROM GameResult gameResult " +
+            "JOIN FETCH gameResult.game game " +
+            "JOIN FETCH game.place " +
+            "WHERE game.player.id = :playerId " +
+            "AND game.gameStatus = :gameStatus " +
+            "ORDER BY gameResult.createdAt DESC")
+    List<GameResult> findAllWithGameByPlayerIdAndGameStatus(@Param("playerId") final Long playerId,
+                                                            @Param("gameStatus") final GameStatus gameStatus);
 }
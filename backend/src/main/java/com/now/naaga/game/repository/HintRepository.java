@@ -1,8 +1,17 @@
 package com.now.naaga.game.repository;
 
 import com.now.naaga.game.domain.Hint;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface HintRepository extends JpaRepository<Hint, Long> {
 
+    @Query("SELECT hint FROM Hint hint " +
+            "JOIN FETCH hint.game game " +
+            "WHERE hint.id = :hintId " +
+            "AND game.id = :gameId")
+    Optional<Hint> findByIdAndGameId(@Param("hintId") final Long hintId,
+                                     @Param("gameId") final Long gameId);
 }
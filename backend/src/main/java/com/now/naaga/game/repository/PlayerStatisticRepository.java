@@ -0,0 +1,18 @@
+package com.now.naaga.game.repository;
+
+import com.now.naaga.game.domain.PlayerStatistic;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PlayerStatisticRepository extends JpaRepository<PlayerStatistic, Long> {
+
+    @Query("SELECT player.id FROM Player player " +
+            "WHERE player.id > :afterPlayerId " +
+            "AND NOT EXISTS (SELECT playerStatistic FROM PlayerStatistic playerStatistic WHERE playerStatistic.playerId = player.id) " +
+            "ORDER BY player.id ASC")
+    List<Long> findPlayerIdsWithoutStatistic(@Param("afterPlayerId") final Long afterPlayerId,
+                                             final Pageable pageable);
+}
@@ -0,0 +1,106 @@
+package com.now.naaga.game.repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.now.naaga.game.domain.ActiveGameSession;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ActiveGameSessionCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(3);
+
+    private final Cache<Long, ActiveGameSession> sessionsByGameId = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    private final Cache<Long, Long> playerIdsByFinishedGameId = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+
+    public Optional<ActiveGameSession> findOrLoad(final Long gameId,
+                                                  final Function<Long, Optional<ActiveGameSession>> loader) {
+        if (playerIdsByFinishedGameId.getIfPresent(gameId) != null) {
+            return Optional.empty();
+        }
+        final ActiveGameSession cachedSession = sessionsByGameId.getIfPresent(gameId);
+        if (cachedSession != null) {
+            return Optional.of(cachedSession);
+        }
+        final Optional<ActiveGameSession> session = loader.apply(gameId);
+        session.ifPresent(loadedSession -> sessionsByGameId.put(gameId, loadedSession));
+        return session;
+    }
+
+    public void updateAfterCommit(final Long gameId,
+                                  final Consumer<ActiveGameSession> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyUpdate(gameId, update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyUpdate(gameId, update);
+            }
+        });
+    }
+
+    private void applyUpdate(final Long gameId,
+                             final Consumer<ActiveGameSession> update) {
+        final ActiveGameSession cachedSession = sessionsByGameId.getIfPresent(gameId);
+        if (cachedSession != null) {
+            update.accept(cachedSession);
+        }
+    }
+
+    public Optional<Long> findFinishedGamePlayerId(final Long gameId) {
+        return Optional.ofNullable(playerIdsByFinishedGameId.getIfPresent(gameId));
+    }
+
+    public void markFinished(final Long gameId,
+                             final Long playerId) {
+        sessionsByGameId.invalidate(gameId);
+        playerIdsByFinishedGameId.put(gameId, playerId);
+    }
+
+    public void markFinishedAfterCommit(final Long gameId,
+                                        final Long playerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markFinished(gameId, playerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markFinished(gameId, playerId);
+            }
+        });
+    }
+
+    public void evict(final Long gameId) {
+        sessionsByGameId.invalidate(gameId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    sessionsByGameId.invalidate(gameId);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        sessionsByGameId.invalidateAll();
+        playerIdsByFinishedGameId.invalidateAll();
+    }
+}
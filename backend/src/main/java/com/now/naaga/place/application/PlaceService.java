@@ -23,9 +23,9 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-@Transactional
 @Service
 public class PlaceService {
 
@@ -39,16 +39,20 @@ public class PlaceService {
 
     private final FileManager<MultipartFile> fileManager;
 
+    private final TransactionTemplate transactionTemplate;
+
     public PlaceService(final PlaceRepository placeRepository,
                         final PlayerService playerService,
                         final PlaceCheckService placeCheckService,
                         final PlaceRecommendService placeRecommendService,
-                        final FileManager<MultipartFile> fileManager) {
+                        final FileManager<MultipartFile> fileManager,
+                        final TransactionTemplate transactionTemplate) {
         this.placeRepository = placeRepository;
         this.playerService = playerService;
         this.placeCheckService = placeCheckService;
         this.placeRecommendService = placeRecommendService;
         this.fileManager = fileManager;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Transactional(readOnly = true)
@@ -77,18 +81,21 @@ public class PlaceService {
         placeCheckService.checkOtherPlaceNearby(position);
         final File uploadPath = fileManager.save(createPlaceCommand.imageFile());
         try {
-            final Long playerId = createPlaceCommand.playerId();
-            final Player registeredPlayer = playerService.findPlayerById(playerId);
-            final Place place = new Place(
-                    createPlaceCommand.name(),
-                    createPlaceCommand.description(),
-                    position,
-                    fileManager.convertToUrlPath(uploadPath),
-                    registeredPlayer);
-            placeRepository.save(place);
-            return place;
+            return transactionTemplate.execute(status -> {
+                final Long playerId = createPlaceCommand.playerId();
+                final Player registeredPlayer = playerService.findPlayerById(playerId);
+                final Place place = new Place(
+                        null,
+                        createPlaceCommand.name(),
+                        createPlaceCommand.description(),
+                        position,
+                        fileManager.convertToUrlPath(uploadPath),
+                        fileManager.convertToThumbnailUrlPath(uploadPath),
+                        registeredPlayer);
+                return placeRepository.save(place);
+            });
         } catch (final RuntimeException exception) {
-            uploadPath.delete();
+            fileManager.delete(uploadPath);
             throw exception;
         }
     }
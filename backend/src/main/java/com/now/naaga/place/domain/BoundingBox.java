@@ -0,0 +1,106 @@
+package com.now.naaga.place.domain;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public class BoundingBox {
+
+    private static final double EARTH_RADIUS_KILOMETERS = 6371.0;
+    private static final double MAX_LATITUDE = 90.0;
+    private static final double MAX_LONGITUDE = 180.0;
+
+    private final BigDecimal minLatitude;
+    private final BigDecimal maxLatitude;
+    private final BigDecimal minLongitude;
+    private final BigDecimal maxLongitude;
+
+    public BoundingBox(final BigDecimal minLatitude,
+                       final BigDecimal maxLatitude,
+                       final BigDecimal minLongitude,
+                       final BigDecimal maxLongitude) {
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    public static BoundingBox of(final Position center, final double distance) {
+        final double latitude = center.getLatitude().doubleValue();
+        final double longitude = center.getLongitude().doubleValue();
+        final double angularDistance = distance / EARTH_RADIUS_KILOMETERS;
+
+        final double latitudeDelta = Math.toDegrees(angularDistance);
+        final double minLatitude = Math.max(latitude - latitudeDelta, -MAX_LATITUDE);
+        final double maxLatitude = Math.min(latitude + latitudeDelta, MAX_LATITUDE);
+
+        final double ratio = Math.sin(angularDistance) / Math.cos(Math.toRadians(latitude));
+        if (ratio >= 1.0 || minLatitude == -MAX_LATITUDE || maxLatitude == MAX_LATITUDE) {
+            return of(minLatitude, maxLatitude, -MAX_LONGITUDE, MAX_LONGITUDE);
+        }
+        final double longitudeDelta = Math.toDegrees(Math.asin(ratio));
+        final double minLongitude = longitude - longitudeDelta;
+        final double maxLongitude = longitude + longitudeDelta;
+        if (minLongitude < -MAX_LONGITUDE || maxLongitude > MAX_LONGITUDE) {
+            return of(minLatitude, maxLatitude, -MAX_LONGITUDE, MAX_LONGITUDE);
+        }
+        return of(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    private static BoundingBox of(final double minLatitude,
+                                  final double maxLatitude,
+                                  final double minLongitude,
+                                  final double maxLongitude) {
+        return new BoundingBox(
+                BigDecimal.valueOf(minLatitude),
+                BigDecimal.valueOf(maxLatitude),
+                BigDecimal.valueOf(minLongitude),
+                BigDecimal.valueOf(maxLongitude)
+        );
+    }
+
+    public BigDecimal getMinLatitude() {
+        return minLatitude;
+    }
+
+    public BigDecimal getMaxLatitude() {
+        return maxLatitude;
+    }
+
+    public BigDecimal getMinLongitude() {
+        return minLongitude;
+    }
+
+    public BigDecimal getMaxLongitude() {
+        return maxLongitude;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BoundingBox that = (BoundingBox) o;
+        return Objects.equals(minLatitude, that.minLatitude)
+                && Objects.equals(maxLatitude, that.maxLatitude)
+                && Objects.equals(minLongitude, that.minLongitude)
+                && Objects.equals(maxLongitude, that.maxLongitude);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    @Override
+    public String toString() {
+        return "BoundingBox{" +
+                "minLatitude=" + minLatitude +
+                ", maxLatitude=" + maxLatitude +
+                ", minLongitude=" + minLongitude +
+                ", maxLongitude=" + maxLongitude +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package com.now.naaga.place.domain;
+
+import java.util.Objects;
+
+public final class Coordinate {
+
+    private static final double EARTH_RADIUS_METER = 6371.0 * 1000;
+
+    private final double latitude;
+    private final double longitude;
+    private final double latitudeRadians;
+    private final double longitudeRadians;
+    private final double cosLatitude;
+
+    public Coordinate(final double latitude,
+                      final double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.latitudeRadians = Math.toRadians(latitude);
+        this.longitudeRadians = Math.toRadians(longitude);
+        this.cosLatitude = Math.cos(latitudeRadians);
+    }
+
+    public static Coordinate from(final Position position) {
+        return new Coordinate(position.getLatitude().doubleValue(), position.getLongitude().doubleValue());
+    }
+
+    public double distanceTo(final Coordinate other) {
+        final double sinHalfLatitudeDelta = Math.sin((other.latitudeRadians - this.latitudeRadians) / 2);
+        final double sinHalfLongitudeDelta = Math.sin((other.longitudeRadians - this.longitudeRadians) / 2);
+        final double haversine = sinHalfLatitudeDelta * sinHalfLatitudeDelta
+                + this.cosLatitude * other.cosLatitude * sinHalfLongitudeDelta * sinHalfLongitudeDelta;
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.sqrt(Math.min(1.0, haversine)));
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getLatitudeRadians() {
+        return latitudeRadians;
+    }
+
+    public double getLongitudeRadians() {
+        return longitudeRadians;
+    }
+
+    public double getCosLatitude() {
+        return cosLatitude;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Coordinate that = (Coordinate) o;
+        return Double.compare(that.latitude, latitude) == 0
+                && Double.compare(that.longitude, longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(latitude, longitude);
+    }
+
+    @Override
+    public String toString() {
+        return "Coordinate{" +
+                "latitude=" + latitude +
+                ", longitude=" + longitude +
+                '}';
+    }
+}
@@ -5,17 +5,24 @@ import static com.now.naaga.game.domain.Game.MIN_RANGE;
 import com.now.naaga.common.domain.BaseEntity;
 import com.now.naaga.place.exception.PlaceException;
 import com.now.naaga.place.exception.PlaceExceptionType;
+import com.now.naaga.place.persistence.index.PlaceGridIndexListener;
 import com.now.naaga.player.domain.Player;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.util.Objects;
 
+@EntityListeners(PlaceGridIndexListener.class)
+@Table(indexes = @Index(name = "idx_place_latitude_longitude", columnList = "latitude, longitude"))
 @Entity
 public class Place extends BaseEntity {
 
@@ -32,7 +39,9 @@ public class Place extends BaseEntity {
 
     private String imageUrl;
 
-    @ManyToOne
+    private String thumbnailUrl;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_id")
     private Player registeredPlayer;
 
@@ -53,11 +62,22 @@ public class Place extends BaseEntity {
                  final Position position,
                  final String imageUrl,
                  final Player registeredPlayer) {
+        this(id, name, description, position, imageUrl, null, registeredPlayer);
+    }
+
+    public Place(final Long id,
+                 final String name,
+                 final String description,
+                 final Position position,
+                 final String imageUrl,
+                 final String thumbnailUrl,
+                 final Player registeredPlayer) {
         this.id = id;
         this.name = name;
         this.description = description;
         this.position = position;
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
         this.registeredPlayer = registeredPlayer;
     }
 
@@ -66,7 +86,7 @@ public class Place extends BaseEntity {
     }
 
     public void validateOwner(final Player player) {
-        if (!this.registeredPlayer.equals(player)) {
+        if (!Objects.equals(this.registeredPlayer.getId(), player.getId())) {
             throw new PlaceException(PlaceExceptionType.INACCESSIBLE_AUTHENTICATION);
         }
     }
@@ -91,6 +111,10 @@ public class Place extends BaseEntity {
         return imageUrl;
     }
 
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
     public Player getRegisteredPlayer() {
         return registeredPlayer;
     }
@@ -100,11 +124,10 @@ public class Place extends BaseEntity {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof final Place place)) {
             return false;
         }
-        final Place place = (Place) o;
-        return Objects.equals(id, place.id);
+        return Objects.equals(id, place.getId());
     }
 
     @Override
@@ -120,7 +143,7 @@ public class Place extends BaseEntity {
                 ", description='" + description + '\'' +
                 ", position=" + position +
                 ", imageUrl='" + imageUrl + '\'' +
-                ", registeredPlayer=" + registeredPlayer +
+                ", registeredPlayerId=" + registeredPlayer.getId() +
                 '}';
     }
 }
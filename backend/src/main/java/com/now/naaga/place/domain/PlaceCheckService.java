@@ -11,6 +11,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PlaceCheckService {
 
+    private static final double DISTANCE = 0.02;
+
     private final PlaceRepository placeRepository;
 
     public PlaceCheckService(final PlaceRepository placeRepository) {
@@ -19,7 +21,8 @@ public class PlaceCheckService {
 
     @Transactional(readOnly = true)
     public void checkOtherPlaceNearby(final Position position) {
-        List<Place> places = placeRepository.findPlaceByPositionAndDistance(position, 0.02);
+        final BoundingBox boundingBox = BoundingBox.of(position, DISTANCE);
+        List<Place> places = placeRepository.findPlaceByPositionAndDistanceWithinBounds(position, DISTANCE, boundingBox);
         if (places.size() > 0) {
             throw new PlaceException(PlaceExceptionType.ALREADY_EXIST_NEARBY);
         }
@@ -1,12 +1,13 @@
 package com.now.naaga.place.domain;
 
 import com.now.naaga.place.exception.PlaceException;
+import com.now.naaga.place.persistence.index.PlaceGridIndex;
 import com.now.naaga.place.persistence.repository.PlaceRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.now.naaga.place.exception.PlaceExceptionType.NO_EXIST;
 
@@ -18,21 +19,38 @@ public class PlaceRecommendService {
 
     private final PlaceRepository placeRepository;
 
-    public PlaceRecommendService(final PlaceRepository placeRepository) {
+    private final PlaceGridIndex placeGridIndex;
+
+    public PlaceRecommendService(final PlaceRepository placeRepository,
+                                 final PlaceGridIndex placeGridIndex) {
         this.placeRepository = placeRepository;
+        this.placeGridIndex = placeGridIndex;
     }
 
     public Place recommendRandomPlaceNearBy(final Position position) {
-        final List<Place> places = placeRepository.findPlaceByPositionAndDistance(position, DISTANCE);
-        if (places.isEmpty()) {
+        final List<Long> placeIds = findPlaceIdsNearBy(position);
+        if (placeIds.isEmpty()) {
             throw new PlaceException(NO_EXIST);
         }
-        return getRandomPlace(places);
+        final Long randomPlaceId = getRandomPlaceId(placeIds);
+        return placeRepository.findById(randomPlaceId)
+                              .orElseThrow(() -> new PlaceException(NO_EXIST));
+    }
+
+    private List<Long> findPlaceIdsNearBy(final Position position) {
+        final BoundingBox boundingBox = BoundingBox.of(position, DISTANCE);
+        if (placeGridIndex.isReady()) {
+            final List<Long> candidateIds = placeGridIndex.findPlaceIdsNearBy(position, DISTANCE);
+            if (candidateIds.isEmpty()) {
+                return candidateIds;
+            }
+            return placeRepository.findPlaceIdsByIdInAndPositionAndDistanceWithinBounds(candidateIds, position, DISTANCE, boundingBox);
+        }
+        return placeRepository.findPlaceIdsByPositionAndDistanceWithinBounds(position, DISTANCE, boundingBox);
     }
 
-    private Place getRandomPlace(final List<Place> places) {
-        final Random random = new Random();
-        final int randomIndex = random.nextInt(places.size());
-        return places.get(randomIndex);
+    private Long getRandomPlaceId(final List<Long> placeIds) {
+        final int randomIndex = ThreadLocalRandom.current().nextInt(placeIds.size());
+        return placeIds.get(randomIndex);
     }
 }
@@ -2,6 +2,7 @@ package com.now.naaga.place.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
 import java.math.BigDecimal;
 import java.util.Objects;
 
@@ -14,6 +15,9 @@ public class Position {
     @Column(precision = 9, scale = 6)
     private BigDecimal longitude;
 
+    @Transient
+    private Coordinate coordinate;
+
     protected Position() {
     }
 
@@ -29,10 +33,16 @@ public class Position {
     }
 
     public double calculateDistance(final Position other) {
-        return Math.acos(Math.sin(Math.toRadians(other.latitude.doubleValue())) * Math.sin(Math.toRadians(this.latitude.doubleValue()))
-                + (Math.cos(Math.toRadians(other.latitude.doubleValue())) * Math.cos(Math.toRadians(this.latitude.doubleValue())) * Math.cos(
-                Math.toRadians(other.longitude.doubleValue() - this.longitude.doubleValue())))
-        ) * 6371.0 * 1000;
+        return toCoordinate().distanceTo(other.toCoordinate());
+    }
+
+    public Coordinate toCoordinate() {
+        Coordinate cached = coordinate;
+        if (cached == null) {
+            cached = Coordinate.from(this);
+            coordinate = cached;
+        }
+        return cached;
     }
 
     public BigDecimal getLatitude() {
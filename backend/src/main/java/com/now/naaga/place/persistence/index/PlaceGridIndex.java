@@ -0,0 +1,111 @@
+package com.now.naaga.place.persistence.index;
+
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.place.domain.Position;
+import com.now.naaga.place.persistence.repository.PlaceRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class PlaceGridIndex {
+
+    private static final double CELL_SIZE_DEGREE = 0.01;
+    private static final double KILOMETERS_PER_LATITUDE_DEGREE = 111.0;
+    private static final double METERS_PER_KILOMETER = 1000.0;
+
+    private final Map<Long, Set<IndexedPlace>> cells = new ConcurrentHashMap<>();
+
+    private final Map<Long, IndexedPlace> placesById = new ConcurrentHashMap<>();
+
+    private final PlaceRepository placeRepository;
+
+    private volatile boolean ready;
+
+    public PlaceGridIndex(final PlaceRepository placeRepository) {
+        this.placeRepository = placeRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        cells.clear();
+        placesById.clear();
+        placeRepository.findAll().forEach(this::add);
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void add(final Place place) {
+        final IndexedPlace indexedPlace = new IndexedPlace(place.getId(), place.getPosition());
+        final IndexedPlace previous = placesById.put(indexedPlace.id(), indexedPlace);
+        if (previous != null) {
+            cellOf(previous).remove(previous);
+        }
+        cellOf(indexedPlace).add(indexedPlace);
+    }
+
+    public void remove(final Long placeId) {
+        final IndexedPlace previous = placesById.remove(placeId);
+        if (previous != null) {
+            cellOf(previous).remove(previous);
+        }
+    }
+
+    public List<Long> findPlaceIdsNearBy(final Position position,
+                                         final double distance) {
+        final double latitude = position.getLatitude().doubleValue();
+        final double longitude = position.getLongitude().doubleValue();
+        final double latitudeDelta = distance / KILOMETERS_PER_LATITUDE_DEGREE;
+        final double longitudeDelta = latitudeDelta / Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+
+        final long minRow = toCellIndex(latitude - latitudeDelta);
+        final long maxRow = toCellIndex(latitude + latitudeDelta);
+        final long minColumn = toCellIndex(longitude - longitudeDelta);
+        final long maxColumn = toCellIndex(longitude + longitudeDelta);
+
+        final double distanceInMeters = distance * METERS_PER_KILOMETER;
+        final List<Long> placeIds = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                final Set<IndexedPlace> cell = cells.get(toCellKey(row, column));
+                if (cell == null) {
+                    continue;
+                }
+                for (final IndexedPlace indexedPlace : cell) {
+                    if (indexedPlace.position().calculateDistance(position) <= distanceInMeters) {
+                        placeIds.add(indexedPlace.id());
+                    }
+                }
+            }
+        }
+        return placeIds;
+    }
+
+    private Set<IndexedPlace> cellOf(final IndexedPlace indexedPlace) {
+        final Position position = indexedPlace.position();
+        final long row = toCellIndex(position.getLatitude().doubleValue());
+        final long column = toCellIndex(position.getLongitude().doubleValue());
+        return cells.computeIfAbsent(toCellKey(row, column), key -> ConcurrentHashMap.newKeySet());
+    }
+
+    private static long toCellIndex(final double degree) {
+        return (long) Math.floor(degree / CELL_SIZE_DEGREE);
+    }
+
+    private static long toCellKey(final long row, final long column) {
+        return (row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private record IndexedPlace(Long id, Position position) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.now.naaga.place.persistence.index;
+
+import com.now.naaga.place.domain.Place;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PlaceGridIndexListener {
+
+    private final ObjectProvider<PlaceGridIndex> placeGridIndex;
+
+    public PlaceGridIndexListener(final ObjectProvider<PlaceGridIndex> placeGridIndex) {
+        this.placeGridIndex = placeGridIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void addToIndex(final Place place) {
+        applyAfterCommit(place.getId(), place);
+    }
+
+    @PostRemove
+    public void removeFromIndex(final Place place) {
+        applyAfterCommit(place.getId(), null);
+    }
+
+    private void applyAfterCommit(final Long placeId,
+                                  final Place place) {
+        final PlaceGridIndex index = placeGridIndex.getObject();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            new PendingPlaces(index).apply(placeId, place);
+            return;
+        }
+        findOrRegisterPendingPlaces(index).remember(placeId, place);
+    }
+
+    private PendingPlaces findOrRegisterPendingPlaces(final PlaceGridIndex index) {
+        for (final TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingPlaces pendingPlaces) {
+                return pendingPlaces;
+            }
+        }
+        final PendingPlaces pendingPlaces = new PendingPlaces(index);
+        TransactionSynchronizationManager.registerSynchronization(pendingPlaces);
+        return pendingPlaces;
+    }
+
+    private static class PendingPlaces implements TransactionSynchronization {
+
+        private final PlaceGridIndex index;
+        private final Map<Long, Place> places = new LinkedHashMap<>();
+
+        private PendingPlaces(final PlaceGridIndex index) {
+            this.index = index;
+        }
+
+        private void remember(final Long placeId,
+                              final Place place) {
+            places.put(placeId, place);
+        }
+
+        @Override
+        public void afterCommit() {
+            places.forEach(this::apply);
+        }
+
+        private void apply(final Long placeId,
+                           final Place place) {
+            if (place == null) {
+                index.remove(placeId);
+                return;
+            }
+            index.add(place);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.now.naaga.place.persistence.repository;
 
+import com.now.naaga.place.domain.BoundingBox;
 import com.now.naaga.place.domain.Place;
 import com.now.naaga.place.domain.Position;
 import java.util.List;
@@ -17,5 +18,40 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     List<Place> findPlaceByPositionAndDistance(@Param(value = "user_position") final Position position,
                                                @Param(value = "distance") final double distance);
 
+    @Query(value = "SELECT place FROM Place place " +
+            "WHERE place.position.latitude BETWEEN :#{#bounds.minLatitude} AND :#{#bounds.maxLatitude} " +
+            "AND place.position.longitude BETWEEN :#{#bounds.minLongitude} AND :#{#bounds.maxLongitude} " +
+            "AND ACOS(" +
+            "SIN(RADIANS(:#{#user_position.latitude})) * SIN(RADIANS(place.position.latitude)) " +
+            "+ (COS(RADIANS(:#{#user_position.latitude})) * COS(RADIANS(place.position.latitude)) * COS(RADIANS(:#{#user_position.longitude} - place.position.longitude)))" +
+            ") * 6371.0 <= :distance")
+    List<Place> findPlaceByPositionAndDistanceWithinBounds(@Param(value = "user_position") final Position position,
+                                                           @Param(value = "distance") final double distance,
+                                                           @Param(value = "bounds") final BoundingBox boundingBox);
+
+    @Query(value = "SELECT place.id FROM Place place " +
+            "WHERE place.position.latitude BETWEEN :#{#bounds.minLatitude} AND :#{#bounds.maxLatitude} " +
+            "AND place.position.longitude BETWEEN :#{#bounds.minLongitude} AND :#{#bounds.maxLongitude} " +
+            "AND ACOS(" +
+            "SIN(RADIANS(:#{#user_position.latitude})) * SIN(RADIANS(place.position.latitude)) " +
+            "+ (COS(RADIANS(:#{#user_position.latitude})) * COS(RADIANS(place.position.latitude)) * COS(RADIANS(:#{#user_position.longitude} - place.position.longitude)))" +
+            ") * 6371.0 <= :distance")
+    List<Long> findPlaceIdsByPositionAndDistanceWithinBounds(@Param(value = "user_position") final Position position,
+                                                             @Param(value = "distance") final double distance,
+                                                             @Param(value = "bounds") final BoundingBox boundingBox);
+
+    @Query(value = "SELECT place.id FROM Place place " +
+            "WHERE place.id IN :place_ids " +
+            "AND place.position.latitude BETWEEN :#{#bounds.minLatitude} AND :#{#bounds.maxLatitude} " +
+            "AND place.position.longitude BETWEEN :#{#bounds.minLongitude} AND :#{#bounds.maxLongitude} " +
+            "AND ACOS(" +
+            "SIN(RADIANS(:#{#user_position.latitude})) * SIN(RADIANS(place.position.latitude)) " +
+            "+ (COS(RADIANS(:#{#user_position.latitude})) * COS(RADIANS(place.position.latitude)) * COS(RADIANS(:#{#user_position.longitude} - place.position.longitude)))" +
+            ") * 6371.0 <= :distance")
+    List<Long> findPlaceIdsByIdInAndPositionAndDistanceWithinBounds(@Param(value = "place_ids") final List<Long> placeIds,
+                                                                    @Param(value = "user_position") final Position position,
+                                                                    @Param(value = "distance") final double distance,
+                                                                    @Param(value = "bounds") final BoundingBox boundingBox);
+
     List<Place> findByRegisteredPlayerId(Long playerId);
 }
@@ -8,6 +8,7 @@ public record PlaceResponse(Long id,
                             String name,
                             CoordinateResponse coordinate,
                             String imageUrl,
+                            String thumbnailUrl,
                             String description) {
 
     public static PlaceResponse from(final Place savedPlace) {
@@ -16,6 +17,7 @@ public record PlaceResponse(Long id,
                 savedPlace.getName(),
                 CoordinateResponse.from(savedPlace.getPosition()),
                 savedPlace.getImageUrl(),
+                savedPlace.getThumbnailUrl(),
                 savedPlace.getDescription()
         );
     }
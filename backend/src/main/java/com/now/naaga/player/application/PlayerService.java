@@ -6,10 +6,17 @@ import com.now.naaga.player.domain.Player;
 import com.now.naaga.player.domain.Rank;
 import com.now.naaga.player.exception.PlayerException;
 import com.now.naaga.player.exception.PlayerExceptionType;
+import com.now.naaga.player.persistence.cache.PlayerIdCache;
+import com.now.naaga.player.persistence.leaderboard.Leaderboard;
 import com.now.naaga.player.persistence.repository.PlayerRepository;
 import com.now.naaga.player.presentation.dto.PlayerRequest;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.now.naaga.score.domain.Score;
 import org.springframework.stereotype.Service;
@@ -21,8 +28,16 @@ public class PlayerService {
 
     private final PlayerRepository playerRepository;
 
-    public PlayerService(final PlayerRepository playerRepository) {
+    private final Leaderboard leaderboard;
+
+    private final PlayerIdCache playerIdCache;
+
+    public PlayerService(final PlayerRepository playerRepository,
+                         final Leaderboard leaderboard,
+                         final PlayerIdCache playerIdCache) {
         this.playerRepository = playerRepository;
+        this.leaderboard = leaderboard;
+        this.playerIdCache = playerIdCache;
     }
 
     @Transactional(readOnly = true)
@@ -43,18 +58,55 @@ public class PlayerService {
     }
 
     @Transactional(readOnly = true)
-    public List<Rank> getAllPlayersByRanksAscending() {
-        final List<Player> players = playerRepository.findAll();
-        players.sort((p1, p2) -> p2.getTotalScore().getValue() - p1.getTotalScore().getValue());
+    public Long findPlayerIdByMemberId(final Long memberId) {
+        return playerIdCache.findOrLoad(memberId, this::findFirstPlayerId)
+                .orElseThrow(() -> new PlayerException(PlayerExceptionType.PLAYER_NOT_FOUND));
+    }
+
+    private Optional<Long> findFirstPlayerId(final Long memberId) {
+        return playerRepository.findIdsByMemberId(memberId)
+                .stream()
+                .findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Rank> getAllPlayersByRanksAscending(final int page,
+                                                    final int size) {
+        final long offset = (long) page * size;
+        final List<Long> playerIds = leaderboard.findPlayerIds(offset, size);
+        return toRanks(playerIds, offset + 1);
+    }
 
+    @Transactional(readOnly = true)
+    public List<Rank> getRanksAroundPlayer(final PlayerRequest playerRequest,
+                                           final int window) {
+        final Player player = findPlayerById(playerRequest.playerId());
+        final int playerRank = calculateRank(player);
+        final long offset = Math.max(playerRank - 1 - window, 0);
+        final int limit = (int) (playerRank - offset) + window;
+        final List<Long> playerIds = leaderboard.findPlayerIds(offset, limit);
+        return toRanks(playerIds, offset + 1);
+    }
+
+    private List<Rank> toRanks(final List<Long> playerIds,
+                               final long firstRank) {
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+        final Map<Long, Player> playersById = playerRepository.findWithMemberByIdIn(playerIds)
+                .stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        final int totalPlayerCount = leaderboard.size();
         final List<Rank> ranks = new ArrayList<>();
-        for (Player player : players) {
-            final int rank = calculateRank(players, player);
-            final int percent = calculateTopPercent(players, rank);
-            final Rank rankObject = new Rank(player, rank, percent);
-            ranks.add(rankObject);
+        for (int index = 0; index < playerIds.size(); index++) {
+            final Player player = playersById.get(playerIds.get(index));
+            if (player == null) {
+                continue;
+            }
+            final int rank = (int) (firstRank + index);
+            final int percent = calculateTopPercent(totalPlayerCount, rank);
+            ranks.add(new Rank(player, rank, percent));
         }
-
         return ranks;
     }
 
@@ -62,22 +114,23 @@ public class PlayerService {
     public Rank getRankAndTopPercent(final PlayerRequest playerRequest) {
         final Player player = findPlayerById(playerRequest.playerId());
 
-        final List<Player> players = playerRepository.findAll();
-        players.sort((p1, p2) -> p2.getTotalScore().getValue() - p1.getTotalScore().getValue());
-
-        final int rank = calculateRank(players, player);
-        final int percent = calculateTopPercent(players, rank);
+        final int rank = calculateRank(player);
+        final int percent = calculateTopPercent(leaderboard.size(), rank);
         return new Rank(player, rank, percent);
     }
 
-    private int calculateRank(final List<Player> players,
-                              final Player player) {
-        return players.indexOf(player) + 1;
+    private int calculateRank(final Player player) {
+        final OptionalInt rank = leaderboard.findRank(player.getId());
+        if (rank.isPresent()) {
+            return rank.getAsInt();
+        }
+        leaderboard.put(player.getId(), player.getTotalScore().getValue());
+        return leaderboard.findRank(player.getId()).orElseThrow();
     }
 
-    private int calculateTopPercent(final List<Player> players,
+    private int calculateTopPercent(final long totalPlayerCount,
                                     final int rank) {
-        return (int) Math.floor((double) rank / players.size() * 100.0);
+        return (int) Math.floor((double) rank / totalPlayerCount * 100.0);
     }
 
     public Player create(final CreatePlayerCommand createPlayerCommand) {
@@ -88,5 +141,6 @@ public class PlayerService {
     public void deleteByMemberId(final DeletePlayerCommand deletePlayerCommand) {
         final List<Player> players = playerRepository.findByMemberId(deletePlayerCommand.memberId());
         playerRepository.deleteAll(players);
+        playerIdCache.evict(deletePlayerCommand.memberId());
     }
 }
@@ -2,6 +2,7 @@ package com.now.naaga.player.domain;
 
 import com.now.naaga.common.domain.BaseEntity;
 import com.now.naaga.member.domain.Member;
+import com.now.naaga.player.persistence.leaderboard.LeaderboardListener;
 import com.now.naaga.score.domain.Score;
 import jakarta.persistence.*;
 import org.hibernate.annotations.SQLDelete;
@@ -13,6 +14,7 @@ import static java.lang.Boolean.FALSE;
 
 @SQLDelete(sql = "UPDATE player SET deleted = true WHERE id = ?")
 @Where(clause = "deleted = false")
+@EntityListeners(LeaderboardListener.class)
 @Entity
 public class Player extends BaseEntity {
 
@@ -28,7 +30,7 @@ public class Player extends BaseEntity {
     private Score totalScore;
 
     @JoinColumn(name = "member_id")
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     private Member member;
 
     private boolean deleted = FALSE;
@@ -75,11 +77,10 @@ public class Player extends BaseEntity {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof final Player player)) {
             return false;
         }
-        final Player player = (Player) o;
-        return Objects.equals(id, player.id);
+        return Objects.equals(id, player.getId());
     }
 
     @Override
@@ -0,0 +1,50 @@
+package com.now.naaga.player.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PlayerIdCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private final Cache<Long, Long> playerIdsByMemberId = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    public Optional<Long> find(final Long memberId) {
+        return Optional.ofNullable(playerIdsByMemberId.getIfPresent(memberId));
+    }
+
+    public Optional<Long> findOrLoad(final Long memberId,
+                                     final Function<Long, Optional<Long>> loader) {
+        final Optional<Long> cachedPlayerId = find(memberId);
+        if (cachedPlayerId.isPresent()) {
+            return cachedPlayerId;
+        }
+        final Optional<Long> playerId = loader.apply(memberId);
+        playerId.ifPresent(id -> playerIdsByMemberId.put(memberId, id));
+        return playerId;
+    }
+
+    public void evict(final Long memberId) {
+        playerIdsByMemberId.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    playerIdsByMemberId.invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        playerIdsByMemberId.invalidateAll();
+    }
+}
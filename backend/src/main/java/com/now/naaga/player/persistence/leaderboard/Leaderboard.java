@@ -0,0 +1,279 @@
+package com.now.naaga.player.persistence.leaderboard;
+
+import com.now.naaga.player.domain.Player;
+import com.now.naaga.player.persistence.repository.PlayerRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class Leaderboard {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> scoresByPlayerId = new HashMap<>();
+
+    private Node root;
+
+    private final PlayerRepository playerRepository;
+
+    public Leaderboard(final PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final List<Player> players = playerRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            clearUnderLock();
+            for (final Player player : players) {
+                putUnderLock(player.getId(), player.getTotalScore().getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearUnderLock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Integer put(final Long playerId,
+                       final int score) {
+        lock.writeLock().lock();
+        try {
+            return putUnderLock(playerId, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Integer remove(final Long playerId) {
+        lock.writeLock().lock();
+        try {
+            final Integer previousScore = scoresByPlayerId.remove(playerId);
+            if (previousScore != null) {
+                root = delete(root, previousScore, playerId);
+            }
+            return previousScore;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public OptionalInt findRank(final Long playerId) {
+        lock.readLock().lock();
+        try {
+            final Integer score = scoresByPlayerId.get(playerId);
+            if (score == null) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(countBefore(score, playerId) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> findPlayerIds(final long offset,
+                                    final int limit) {
+        lock.readLock().lock();
+        try {
+            final int size = size(root);
+            final int from = (int) Math.min(Math.max(offset, 0), size);
+            final int to = (int) Math.min((long) from + Math.max(limit, 0), size);
+            final List<Long> playerIds = new ArrayList<>(to - from);
+            for (int index = from; index < to; index++) {
+                playerIds.add(select(index).playerId);
+            }
+            return playerIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clearUnderLock() {
+        scoresByPlayerId.clear();
+        root = null;
+    }
+
+    private Integer putUnderLock(final Long playerId,
+                                 final int score) {
+        final Integer previousScore = scoresByPlayerId.put(playerId, score);
+        if (previousScore != null) {
+            if (previousScore == score) {
+                return previousScore;
+            }
+            root = delete(root, previousScore, playerId);
+        }
+        root = insert(root, new Node(score, playerId));
+        return previousScore;
+    }
+
+    private int countBefore(final int score,
+                            final Long playerId) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            final int comparison = compare(score, playerId, node);
+            if (comparison <= 0) {
+                node = node.left;
+                continue;
+            }
+            count += size(node.left) + 1;
+            node = node.right;
+        }
+        return count;
+    }
+
+    private Node select(int index) {
+        Node node = root;
+        while (node != null) {
+            final int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+                continue;
+            }
+            if (index == leftSize) {
+                return node;
+            }
+            index -= leftSize + 1;
+            node = node.right;
+        }
+        throw new IndexOutOfBoundsException(index);
+    }
+
+    private Node insert(final Node node,
+                        final Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.score, inserted.playerId, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private Node delete(final Node node,
+                        final int score,
+                        final Long playerId) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = compare(score, playerId, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, score, playerId);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, score, playerId);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private Node merge(final Node left,
+                       final Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateSize();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.updateSize();
+        return right;
+    }
+
+    private Node rotateRight(final Node node) {
+        final Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.updateSize();
+        left.updateSize();
+        return left;
+    }
+
+    private Node rotateLeft(final Node node) {
+        final Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.updateSize();
+        right.updateSize();
+        return right;
+    }
+
+    private static int compare(final int score,
+                               final Long playerId,
+                               final Node node) {
+        if (score != node.score) {
+            return Integer.compare(node.score, score);
+        }
+        return Long.compare(playerId, node.playerId);
+    }
+
+    private static int size(final Node node) {
+        if (node == null) {
+            return 0;
+        }
+        return node.size;
+    }
+
+    private static class Node {
+
+        private final int score;
+        private final long playerId;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(final int score,
+                     final long playerId) {
+            this.score = score;
+            this.playerId = playerId;
+        }
+
+        private void updateSize() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
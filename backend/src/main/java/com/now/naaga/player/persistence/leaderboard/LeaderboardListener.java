@@ -0,0 +1,83 @@
+package com.now.naaga.player.persistence.leaderboard;
+
+import com.now.naaga.player.domain.Player;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class LeaderboardListener {
+
+    private final ObjectProvider<Leaderboard> leaderboard;
+
+    public LeaderboardListener(final ObjectProvider<Leaderboard> leaderboard) {
+        this.leaderboard = leaderboard;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void updateScore(final Player player) {
+        applyAfterCommit(player.getId(), player.getTotalScore().getValue());
+    }
+
+    @PostRemove
+    public void removeScore(final Player player) {
+        applyAfterCommit(player.getId(), null);
+    }
+
+    private void applyAfterCommit(final Long playerId,
+                                  final Integer score) {
+        final Leaderboard board = leaderboard.getObject();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            new PendingScores(board).apply(playerId, score);
+            return;
+        }
+        findOrRegisterPendingScores(board).remember(playerId, score);
+    }
+
+    private PendingScores findOrRegisterPendingScores(final Leaderboard board) {
+        for (final TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingScores pendingScores) {
+                return pendingScores;
+            }
+        }
+        final PendingScores pendingScores = new PendingScores(board);
+        TransactionSynchronizationManager.registerSynchronization(pendingScores);
+        return pendingScores;
+    }
+
+    private static class PendingScores implements TransactionSynchronization {
+
+        private final Leaderboard board;
+        private final Map<Long, Integer> scores = new LinkedHashMap<>();
+
+        private PendingScores(final Leaderboard board) {
+            this.board = board;
+        }
+
+        private void remember(final Long playerId,
+                              final Integer score) {
+            scores.put(playerId, score);
+        }
+
+        @Override
+        public void afterCommit() {
+            scores.forEach(this::apply);
+        }
+
+        private void apply(final Long playerId,
+                           final Integer score) {
+            if (score == null) {
+                board.remove(playerId);
+                return;
+            }
+            board.put(playerId, score);
+        }
+    }
+}
@@ -3,8 +3,18 @@ package com.now.naaga.player.persistence.repository;
 import com.now.naaga.player.domain.Player;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PlayerRepository extends JpaRepository<Player, Long> {
 
     List<Player> findByMemberId(final Long memberId);
+
+    @Query("SELECT player.id FROM Player player WHERE player.member.id = :memberId ORDER BY player.id ASC")
+    List<Long> findIdsByMemberId(@Param("memberId") final Long memberId);
+
+    @Query("SELECT player FROM Player player " +
+            "JOIN FETCH player.member " +
+            "WHERE player.id IN :playerIds")
+    List<Player> findWithMemberByIdIn(@Param("playerIds") final List<Long> playerIds);
 }
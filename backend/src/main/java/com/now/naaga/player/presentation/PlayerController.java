@@ -21,6 +21,9 @@ import static com.now.naaga.common.exception.CommonExceptionType.INVALID_REQUEST
 @RestController
 public class PlayerController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_WINDOW = 50;
+
     private final PlayerService playerService;
 
     public PlayerController(final PlayerService playerService) {
@@ -34,18 +37,36 @@ public class PlayerController {
         return ResponseEntity.ok(rankResponse);
     }
 
+    @GetMapping("/my/around")
+    public ResponseEntity<List<RankResponse>> findRanksAroundMe(@Auth final PlayerRequest playerRequest,
+                                                                @RequestParam(name = "window", defaultValue = "5") final int window) {
+        if (window < 1 || window > MAX_WINDOW) {
+            throw new CommonException(INVALID_REQUEST_PARAMETERS);
+        }
+
+        final List<Rank> ranks = playerService.getRanksAroundPlayer(playerRequest, window);
+        return ResponseEntity.ok(toRankResponses(ranks));
+    }
+
     @GetMapping
     public ResponseEntity<List<RankResponse>> findAllRank(@RequestParam(name = "sort-by") final String sortBy,
-                                                          @RequestParam(name = "order") final String order) {
+                                                          @RequestParam(name = "order") final String order,
+                                                          @RequestParam(name = "page", defaultValue = "0") final int page,
+                                                          @RequestParam(name = "size", defaultValue = "50") final int size) {
         if (!sortBy.equalsIgnoreCase("RANK") || !order.equalsIgnoreCase("ASCENDING")) {
-            System.out.println("sortBy: "+sortBy);
             throw new CommonException(INVALID_REQUEST_PARAMETERS);
         }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CommonException(INVALID_REQUEST_PARAMETERS);
+        }
+
+        final List<Rank> ranks = playerService.getAllPlayersByRanksAscending(page, size);
+        return ResponseEntity.ok(toRankResponses(ranks));
+    }
 
-        final List<Rank> ranks = playerService.getAllPlayersByRanksAscending();
-        final List<RankResponse> rankResponseList = ranks.stream()
+    private List<RankResponse> toRankResponses(final List<Rank> ranks) {
+        return ranks.stream()
                 .map(RankResponse::of)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(rankResponseList);
     }
 }
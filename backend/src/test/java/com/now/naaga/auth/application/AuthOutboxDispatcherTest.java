@@ -0,0 +1,165 @@
+package com.now.naaga.auth.application;
+
+import com.now.naaga.auth.domain.AuthOutbox;
+import com.now.naaga.auth.domain.AuthOutboxType;
+import com.now.naaga.auth.infrastructure.AuthClient;
+import com.now.naaga.auth.persistence.AuthOutboxRepository;
+import com.now.naaga.common.config.BeanConfig;
+import com.now.naaga.common.stub.KakaoStubServer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@Sql("/truncate.sql")
+@SpringBootTest
+class AuthOutboxDispatcherTest {
+
+    private static final String UNLINK_REQUEST = "/v1/user/unlink?target_id_type=user_id&target_id=1";
+
+    private static final String LOGOUT_REQUEST = "/v1/user/logout?target_id_type=user_id&target_id=1";
+
+    @Autowired
+    private AuthOutboxRepository authOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private KakaoStubServer kakaoStubServer;
+
+    private ExecutorService executorService;
+
+    private AuthOutboxDispatcher authOutboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        kakaoStubServer = new KakaoStubServer().start();
+        executorService = Executors.newFixedThreadPool(4);
+        final RestTemplate restTemplate = new BeanConfig().restTemplate(Duration.ofSeconds(1), Duration.ofSeconds(1), 10, 10);
+        final AuthClient authClient = new AuthClient(restTemplate, executorService, kakaoStubServer.url(), "admin-key");
+        authOutboxDispatcher = new AuthOutboxDispatcher(authOutboxRepository, authClient, transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoStubServer.stop();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void 전송에_성공한_요청은_아웃박스에서_삭제된다() {
+        // given
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        authOutboxRepository.save(new AuthOutbox(1L, AuthOutboxType.UNLINK, now));
+
+        // when
+        authOutboxDispatcher.dispatch(now);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(kakaoStubServer.receivedRequests()).containsExactly(UNLINK_REQUEST);
+            softly.assertThat(authOutboxRepository.findAll()).isEmpty();
+        });
+    }
+
+    @Test
+    void 전송에_실패한_요청은_재시도_시각이_지난_뒤에_다시_전송된다() {
+        // given
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        final AuthOutbox authOutbox = authOutboxRepository.save(new AuthOutbox(1L, AuthOutboxType.UNLINK, now));
+        kakaoStubServer.failNext("/v1/user/unlink", 1);
+
+        // when
+        authOutboxDispatcher.dispatch(now);
+        final AuthOutbox failedOutbox = authOutboxRepository.findById(authOutbox.getId()).orElseThrow();
+        authOutboxDispatcher.dispatch(now);
+        final int requestCountBeforeBackoff = kakaoStubServer.receivedRequests().size();
+        authOutboxDispatcher.dispatch(now.plusMinutes(1));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(failedOutbox.getAttemptCount()).isEqualTo(1);
+            softly.assertThat(failedOutbox.getNextAttemptAt()).isAfter(now);
+            softly.assertThat(requestCountBeforeBackoff).isZero();
+            softly.assertThat(kakaoStubServer.receivedRequests()).containsExactly(UNLINK_REQUEST);
+            softly.assertThat(authOutboxRepository.findAll()).isEmpty();
+        });
+    }
+
+    @Test
+    void 같은_회원의_요청은_앞선_요청이_성공한_뒤에_순서대로_전송된다() {
+        // given
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        authOutboxRepository.save(new AuthOutbox(1L, AuthOutboxType.LOGOUT, now));
+        authOutboxRepository.save(new AuthOutbox(1L, AuthOutboxType.UNLINK, now));
+        kakaoStubServer.failNext("/v1/user/logout", 1);
+
+        // when
+        authOutboxDispatcher.dispatch(now);
+        final int requestCountAfterFailure = kakaoStubServer.receivedRequests().size();
+        authOutboxDispatcher.dispatch(now.plusMinutes(1));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(requestCountAfterFailure).isZero();
+            softly.assertThat(kakaoStubServer.receivedRequests()).containsExactly(LOGOUT_REQUEST, UNLINK_REQUEST);
+            softly.assertThat(authOutboxRepository.findAll()).isEmpty();
+        });
+    }
+
+    @Test
+    void 여러_인스턴스가_동시에_전송해도_요청은_한_번만_전송된다() throws Exception {
+        // given
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (long authId = 1; authId <= 20; authId++) {
+            authOutboxRepository.save(new AuthOutbox(authId, AuthOutboxType.UNLINK, now));
+        }
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService dispatchers = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            final CompletableFuture<?> first = CompletableFuture.runAsync(() -> dispatchAfter(startLatch, now), dispatchers);
+            final CompletableFuture<?> second = CompletableFuture.runAsync(() -> dispatchAfter(startLatch, now), dispatchers);
+            startLatch.countDown();
+            CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+        } finally {
+            dispatchers.shutdownNow();
+        }
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(kakaoStubServer.receivedRequests()).hasSize(20).doesNotHaveDuplicates();
+            softly.assertThat(authOutboxRepository.findAll()).isEmpty();
+        });
+    }
+
+    private void dispatchAfter(final CountDownLatch startLatch,
+                               final LocalDateTime now) {
+        try {
+            startLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        authOutboxDispatcher.dispatch(now);
+    }
+}
@@ -1,11 +1,15 @@
 package com.now.naaga.auth.application;
 
 import com.now.naaga.auth.application.dto.AuthCommand;
+import com.now.naaga.auth.application.dto.RefreshTokenCommand;
 import com.now.naaga.auth.infrastructure.dto.AuthInfo;
 import com.now.naaga.auth.domain.AuthToken;
+import com.now.naaga.auth.exception.AuthException;
 import com.now.naaga.auth.infrastructure.AuthClient;
 import com.now.naaga.auth.infrastructure.AuthType;
 import com.now.naaga.auth.infrastructure.dto.MemberAuth;
+import com.now.naaga.auth.infrastructure.jwt.AuthTokenGenerator;
+import com.now.naaga.auth.persistence.AuthRepository;
 import com.now.naaga.common.builder.PlayerBuilder;
 import com.now.naaga.member.domain.Member;
 import com.now.naaga.member.exception.MemberException;
@@ -25,8 +29,19 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.MimeType;
 
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
 
+import static com.now.naaga.auth.exception.AuthExceptionType.INVALID_TOKEN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +67,15 @@ class AuthServiceTest {
     @Autowired
     private PlayerBuilder playerBuilder;
 
+    @Autowired
+    private AuthRepository authRepository;
+
+    @Autowired
+    private AuthTokenGenerator authTokenGenerator;
+
+    @Autowired
+    private DataSource dataSource;
+
     @MockBean
     private AuthClient authClient;
 
@@ -60,7 +84,7 @@ class AuthServiceTest {
         // given
         final Member member = new Member("chae@chae.com");
         final Player player = new Player("chae", new Score(0), member);
-        final AuthCommand authCommand = new AuthCommand("1234", AuthType.KAKAO);
+        final AuthCommand authCommand = new AuthCommand("1234", AuthType.KAKAO, AuthToken.DEFAULT_DEVICE_ID);
 
         when(authClient.requestOauthInfo(any())).thenReturn(AuthInfo.of(member.getEmail(), player.getNickname()));
 
@@ -80,7 +104,7 @@ class AuthServiceTest {
         // given
         final Player player = playerBuilder.init()
                 .build();
-        final AuthCommand authCommand = new AuthCommand("1234", AuthType.KAKAO);
+        final AuthCommand authCommand = new AuthCommand("1234", AuthType.KAKAO, AuthToken.DEFAULT_DEVICE_ID);
 
         when(authClient.requestOauthInfo(any())).thenReturn(AuthInfo.of(player.getMember().getEmail(), player.getNickname()));
 
@@ -131,4 +155,171 @@ class AuthServiceTest {
             softly.assertThat(playerRepository.findById(player.getId())).isPresent();
         });
     }
+
+    @Test
+    void 카카오_응답을_기다리는_동안에는_DB_커넥션을_점유하지_않는다() throws Exception {
+        // given
+        final int loginCount = 20;
+        final CountDownLatch requested = new CountDownLatch(loginCount);
+        final CountDownLatch responded = new CountDownLatch(1);
+        when(authClient.requestOauthInfo(any())).thenAnswer(invocation -> {
+            requested.countDown();
+            responded.await(5, TimeUnit.SECONDS);
+            final String token = invocation.getArgument(0);
+            return AuthInfo.of(token + "@naaga.com", token);
+        });
+        final ExecutorService executorService = Executors.newFixedThreadPool(loginCount);
+
+        // when
+        final List<Future<AuthToken>> logins = new ArrayList<>();
+        for (int i = 0; i < loginCount; i++) {
+            final AuthCommand authCommand = new AuthCommand("user" + i, AuthType.KAKAO, AuthToken.DEFAULT_DEVICE_ID);
+            logins.add(executorService.submit(() -> authService.login(authCommand)));
+        }
+        final boolean allRequested = requested.await(5, TimeUnit.SECONDS);
+        final int activeConnections = dataSource.unwrap(HikariDataSource.class)
+                .getHikariPoolMXBean()
+                .getActiveConnections();
+        responded.countDown();
+        final List<AuthToken> authTokens = new ArrayList<>();
+        for (final Future<AuthToken> login : logins) {
+            authTokens.add(login.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(allRequested).isTrue();
+            softly.assertThat(activeConnections).isZero();
+            softly.assertThat(authTokens).hasSize(loginCount)
+                    .doesNotContainNull();
+        });
+    }
+
+    @Test
+    void 다시_로그인하면_기존_인증_정보를_갱신한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+        final AuthCommand authCommand = new AuthCommand("1234", AuthType.KAKAO, AuthToken.DEFAULT_DEVICE_ID);
+        when(authClient.requestOauthInfo(any())).thenReturn(AuthInfo.of(player.getMember().getEmail(), player.getNickname()));
+        final AuthToken firstAuthToken = authService.login(authCommand);
+
+        // when
+        final AuthToken secondAuthToken = authService.login(authCommand);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(authRepository.count()).isEqualTo(1);
+            softly.assertThat(authRepository.findByMemberIdAndDeviceId(player.getMember().getId(), AuthToken.DEFAULT_DEVICE_ID))
+                    .get()
+                    .extracting(AuthToken::getFamilyId)
+                    .isEqualTo(secondAuthToken.getFamilyId())
+                    .isNotEqualTo(firstAuthToken.getFamilyId());
+        });
+    }
+
+    @Test
+    void 기기마다_별도의_토큰_패밀리를_발급한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+        when(authClient.requestOauthInfo(any())).thenReturn(AuthInfo.of(player.getMember().getEmail(), player.getNickname()));
+        final AuthToken phoneAuthToken = authService.login(new AuthCommand("1234", AuthType.KAKAO, "phone"));
+
+        // when
+        final AuthToken tabletAuthToken = authService.login(new AuthCommand("1234", AuthType.KAKAO, "tablet"));
+
+        // then
+        final Long memberId = player.getMember().getId();
+        assertSoftly(softly -> {
+            softly.assertThat(authRepository.count()).isEqualTo(2);
+            softly.assertThat(authRepository.findByMemberIdAndDeviceId(memberId, "phone"))
+                    .get()
+                    .extracting(AuthToken::getFamilyId)
+                    .isEqualTo(phoneAuthToken.getFamilyId());
+            softly.assertThat(authRepository.findByMemberIdAndDeviceId(memberId, "tablet"))
+                    .get()
+                    .extracting(AuthToken::getFamilyId)
+                    .isEqualTo(tabletAuthToken.getFamilyId())
+                    .isNotEqualTo(phoneAuthToken.getFamilyId());
+        });
+    }
+
+    @Test
+    void 리프레시하면_같은_토큰_패밀리의_버전이_올라간다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+        final AuthToken authToken = saveAccessTokenExpiredAuthToken(player.getMember());
+
+        // when
+        final AuthToken refreshedAuthToken = authService.refreshLogin(new RefreshTokenCommand(authToken.getRefreshToken()));
+
+        // then
+        final AuthToken savedAuthToken = authRepository.findByMemberIdAndDeviceId(player.getMember().getId(), AuthToken.DEFAULT_DEVICE_ID).get();
+        assertSoftly(softly -> {
+            softly.assertThat(refreshedAuthToken.getFamilyId()).isEqualTo(authToken.getFamilyId());
+            softly.assertThat(refreshedAuthToken.getVersion()).isEqualTo(authToken.getVersion() + 1);
+            softly.assertThat(savedAuthToken).isEqualTo(refreshedAuthToken);
+        });
+    }
+
+    @Test
+    void 이미_사용한_리프레시_토큰을_다시_사용하면_토큰_패밀리를_폐기한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+        final AuthToken authToken = saveAccessTokenExpiredAuthToken(player.getMember());
+        final RefreshTokenCommand refreshTokenCommand = new RefreshTokenCommand(authToken.getRefreshToken());
+        authService.refreshLogin(refreshTokenCommand);
+
+        // when & then
+        assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> authService.refreshLogin(refreshTokenCommand))
+                    .isInstanceOf(AuthException.class)
+                    .extracting(exception -> ((AuthException) exception).exceptionType())
+                    .isEqualTo(INVALID_TOKEN);
+            softly.assertThat(authRepository.findByMemberIdAndDeviceId(player.getMember().getId(), AuthToken.DEFAULT_DEVICE_ID)).isEmpty();
+        });
+    }
+
+    @Test
+    void 리프레시_토큰이_만료된_인증_정보만_삭제한다() {
+        // given
+        final Player expiredPlayer = playerBuilder.init()
+                .build();
+        final Member validMember = memberRepository.save(new Member("valid@naaga.com"));
+        final Player validPlayer = playerBuilder.init()
+                .member(validMember)
+                .build();
+        final LocalDateTime now = LocalDateTime.now();
+        final AuthToken expiredAuthToken = authRepository.save(
+                new AuthToken("access", "refresh", expiredPlayer.getMember(), AuthToken.DEFAULT_DEVICE_ID, "expired-family", 0L, now.minusDays(15), now.minusDays(1)));
+        final AuthToken validAuthToken = authRepository.save(
+                new AuthToken("access", "refresh", validPlayer.getMember(), AuthToken.DEFAULT_DEVICE_ID, "valid-family", 0L, now.minusDays(1), now.plusDays(13)));
+
+        // when
+        final int purgedCount = authService.purgeExpiredTokens(now);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(purgedCount).isEqualTo(1);
+            softly.assertThat(authRepository.findById(expiredAuthToken.getId())).isEmpty();
+            softly.assertThat(authRepository.findById(validAuthToken.getId())).isPresent();
+        });
+    }
+
+    private AuthToken saveAccessTokenExpiredAuthToken(final Member member) {
+        final AuthToken authToken = authTokenGenerator.generate(member, 1L, AuthType.KAKAO);
+        final LocalDateTime now = LocalDateTime.now();
+        return authRepository.save(new AuthToken(authToken.getAccessToken(),
+                authToken.getRefreshToken(),
+                member,
+                authToken.getDeviceId(),
+                authToken.getFamilyId(),
+                authToken.getVersion(),
+                now.minusMinutes(1),
+                authToken.getRefreshTokenExpiredAt()));
+    }
 }
@@ -0,0 +1,66 @@
+package com.now.naaga.auth.domain;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import static com.now.naaga.auth.domain.AuthOutboxStatus.FAILED;
+import static com.now.naaga.auth.domain.AuthOutboxStatus.PENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class AuthOutboxTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 8, 1, 12, 0);
+
+    @Test
+    void 전송에_실패할_때마다_재시도_간격이_두_배로_늘어난다() {
+        // given
+        final AuthOutbox authOutbox = new AuthOutbox(1L, AuthOutboxType.UNLINK, NOW);
+
+        // when
+        authOutbox.fail(NOW);
+        final LocalDateTime firstRetryAt = authOutbox.getNextAttemptAt();
+        authOutbox.fail(NOW);
+        final LocalDateTime secondRetryAt = authOutbox.getNextAttemptAt();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(firstRetryAt).isEqualTo(NOW.plusSeconds(10));
+            softly.assertThat(secondRetryAt).isEqualTo(NOW.plusSeconds(20));
+            softly.assertThat(authOutbox.getAttemptCount()).isEqualTo(2);
+            softly.assertThat(authOutbox.getStatus()).isEqualTo(PENDING);
+        });
+    }
+
+    @Test
+    void 재시도_간격은_한_시간을_넘지_않는다() {
+        // given
+        final AuthOutbox authOutbox = new AuthOutbox(1L, AuthOutboxType.UNLINK, NOW);
+
+        // when
+        for (int i = 0; i < AuthOutbox.MAX_ATTEMPT_COUNT - 1; i++) {
+            authOutbox.fail(NOW);
+        }
+
+        // then
+        assertThat(authOutbox.getNextAttemptAt()).isEqualTo(NOW.plusHours(1));
+    }
+
+    @Test
+    void 최대_시도_횟수만큼_실패하면_더_이상_재시도하지_않는다() {
+        // given
+        final AuthOutbox authOutbox = new AuthOutbox(1L, AuthOutboxType.LOGOUT, NOW);
+
+        // when
+        for (int i = 0; i < AuthOutbox.MAX_ATTEMPT_COUNT; i++) {
+            authOutbox.fail(NOW);
+        }
+
+        // then
+        assertThat(authOutbox.getStatus()).isEqualTo(FAILED);
+    }
+}
@@ -0,0 +1,98 @@
+package com.now.naaga.auth.infrastructure;
+
+import com.now.naaga.auth.exception.AuthException;
+import com.now.naaga.auth.infrastructure.dto.AuthInfo;
+import com.now.naaga.common.config.BeanConfig;
+import com.now.naaga.common.stub.KakaoStubServer;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import static com.now.naaga.auth.exception.AuthExceptionType.INVALID_KAKAO_INFO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class AuthClientTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private static final long SLOW_RESPONSE_MILLIS = 2_000L;
+
+    private KakaoStubServer kakaoStubServer;
+
+    private ExecutorService clientExecutor;
+
+    private AuthClient authClient;
+
+    @BeforeEach
+    void setUp() {
+        kakaoStubServer = new KakaoStubServer().start();
+        clientExecutor = Executors.newFixedThreadPool(2);
+        final RestTemplate restTemplate = new BeanConfig().restTemplate(Duration.ofSeconds(1), READ_TIMEOUT, 10, 10);
+        authClient = new AuthClient(restTemplate, clientExecutor, kakaoStubServer.url(), "admin-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoStubServer.stop();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void 카카오_회원_정보를_조회한다() {
+        // when
+        final AuthInfo authInfo = authClient.requestOauthInfo("token");
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(authInfo.getId()).isEqualTo(1L);
+            softly.assertThat(authInfo.getEmail()).isEqualTo("chae@chae.com");
+            softly.assertThat(authInfo.getNickname()).isEqualTo("채채");
+        });
+    }
+
+    @Test
+    void 카카오_응답이_지연되면_읽기_제한_시간이_지나_예외가_발생한다() {
+        // given
+        kakaoStubServer.delay("/v2/user/me", SLOW_RESPONSE_MILLIS);
+        final long startedAt = System.nanoTime();
+
+        // when
+        final AuthException exception = assertThrows(AuthException.class, () -> authClient.requestOauthInfo("token"));
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(exception.exceptionType()).isEqualTo(INVALID_KAKAO_INFO);
+            softly.assertThat(elapsedMillis).isLessThan(SLOW_RESPONSE_MILLIS);
+        });
+    }
+
+    @Test
+    void 연결_끊기를_요청한다() {
+        // when
+        authClient.requestUnlink(1L);
+
+        // then
+        assertThat(kakaoStubServer.receivedRequests()).containsExactly("/v1/user/unlink?target_id_type=user_id&target_id=1");
+    }
+
+    @Test
+    void 연결_끊기를_비동기로_요청한다() throws Exception {
+        // when
+        authClient.requestUnlinkAsync(1L).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(kakaoStubServer.receivedRequests()).containsExactly("/v1/user/unlink?target_id_type=user_id&target_id=1");
+    }
+}
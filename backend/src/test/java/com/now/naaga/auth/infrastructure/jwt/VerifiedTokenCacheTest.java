@@ -0,0 +1,57 @@
+package com.now.naaga.auth.infrastructure.jwt;
+
+import com.now.naaga.auth.infrastructure.AuthType;
+import com.now.naaga.auth.infrastructure.dto.MemberAuth;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    @Test
+    void 검증된_토큰은_만료_전까지_캐시에서_조회된다() {
+        // given
+        final MemberAuth memberAuth = new MemberAuth(1L, 1L, AuthType.KAKAO);
+        verifiedTokenCache.put("token", memberAuth, new Date(System.currentTimeMillis() + 60_000));
+
+        // when & then
+        assertThat(verifiedTokenCache.find("token")).contains(memberAuth);
+    }
+
+    @Test
+    void 이미_만료된_토큰은_캐시하지_않는다() {
+        // given
+        final MemberAuth memberAuth = new MemberAuth(1L, 1L, AuthType.KAKAO);
+        verifiedTokenCache.put("token", memberAuth, new Date(System.currentTimeMillis() - 1));
+
+        // when & then
+        assertThat(verifiedTokenCache.find("token")).isEmpty();
+    }
+
+    @Test
+    void 멤버의_토큰을_무효화하면_해당_멤버의_토큰만_제거된다() {
+        // given
+        final Date expiredAt = new Date(System.currentTimeMillis() + 60_000);
+        final MemberAuth memberAuth = new MemberAuth(1L, 1L, AuthType.KAKAO);
+        final MemberAuth otherMemberAuth = new MemberAuth(2L, 2L, AuthType.KAKAO);
+        verifiedTokenCache.put("token", memberAuth, expiredAt);
+        verifiedTokenCache.put("other-token", otherMemberAuth, expiredAt);
+
+        // when
+        verifiedTokenCache.invalidateMember(1L);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(verifiedTokenCache.find("token")).isEmpty();
+            softly.assertThat(verifiedTokenCache.find("other-token")).contains(otherMemberAuth);
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.now.naaga.auth.presentation;
 
+import com.now.naaga.auth.domain.AuthOutbox;
+import com.now.naaga.auth.domain.AuthOutboxType;
 import com.now.naaga.auth.domain.AuthToken;
 import com.now.naaga.auth.infrastructure.AuthClient;
 import com.now.naaga.auth.infrastructure.AuthType;
@@ -8,6 +10,7 @@ import com.now.naaga.auth.infrastructure.dto.AuthInfo;
 import com.now.naaga.auth.infrastructure.dto.MemberAuth;
 import com.now.naaga.auth.infrastructure.jwt.AuthTokenGenerator;
 import com.now.naaga.auth.infrastructure.jwt.JwtProvider;
+import com.now.naaga.auth.persistence.AuthOutboxRepository;
 import com.now.naaga.auth.persistence.AuthRepository;
 import com.now.naaga.auth.presentation.dto.AuthRequest;
 import com.now.naaga.auth.presentation.dto.AuthResponse;
@@ -31,7 +34,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.Map;
 
 import static com.now.naaga.auth.exception.AuthExceptionType.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +51,8 @@ import static org.mockito.Mockito.when;
 @DisplayNameGeneration(ReplaceUnderscores.class)
 class AuthControllerTest extends CommonControllerTest {
 
+    private static final String FAMILY_ID = "5b1f0a7e-3c1d-4f5e-9a2b-6c7d8e9f0a1b";
+
     @Autowired
     private JwtProvider jwtProvider;
 
@@ -54,6 +62,9 @@ class AuthControllerTest extends CommonControllerTest {
     @Autowired
     private AuthRepository authRepository;
 
+    @Autowired
+    private AuthOutboxRepository authOutboxRepository;
+
     @MockBean
     private AuthClient authClient;
 
@@ -77,7 +88,7 @@ class AuthControllerTest extends CommonControllerTest {
         final ExtractableResponse<Response> extract = RestAssured.given()
                                                                  .log().all()
                                                                  .contentType(MediaType.APPLICATION_JSON_VALUE)
-                                                                 .body(new AuthRequest("KAKAO", "1234"))
+                                                                 .body(new AuthRequest("KAKAO", "1234", "device"))
                                                                  .when()
                                                                  .post("/auth")
                                                                  .then()
@@ -107,7 +118,7 @@ class AuthControllerTest extends CommonControllerTest {
         final ExtractableResponse<Response> extract = RestAssured.given()
                                                                  .log().all()
                                                                  .contentType(MediaType.APPLICATION_JSON_VALUE)
-                                                                 .body(new AuthRequest("KAKAO", "1234"))
+                                                                 .body(new AuthRequest("KAKAO", "1234", "device"))
                                                                  .when()
                                                                  .post("/auth")
                                                                  .then()
@@ -138,9 +149,9 @@ class AuthControllerTest extends CommonControllerTest {
         final MemberAuth memberAuth = new MemberAuth(player.getMember().getId(), 1L, AuthType.KAKAO);
         final String convertedString = MemberAuthMapper.convertMemberAuthToString(memberAuth);
         final String expiredAccessToken = jwtProvider.generate(convertedString, accessTokenExpiredAt);
-        final String validRefreshToken = jwtProvider.generate(convertedString, refreshTokenExpiredAt);
+        final String validRefreshToken = jwtProvider.generate(convertedString, refreshTokenExpiredAt, Map.of("fid", FAMILY_ID, "ver", 0L));
 
-        authRepository.save(new AuthToken(expiredAccessToken, validRefreshToken, player.getMember()));
+        authRepository.save(new AuthToken(expiredAccessToken, validRefreshToken, player.getMember(), AuthToken.DEFAULT_DEVICE_ID, FAMILY_ID, 0L, toLocalDateTime(accessTokenExpiredAt), toLocalDateTime(refreshTokenExpiredAt)));
 
         //when
         final ExtractableResponse<Response> extract = RestAssured.given()
@@ -176,9 +187,9 @@ class AuthControllerTest extends CommonControllerTest {
         final MemberAuth memberAuth = new MemberAuth(player.getMember().getId(), 1L, AuthType.KAKAO);
         final String convertedString = MemberAuthMapper.convertMemberAuthToString(memberAuth);
         final String validAccessToken = jwtProvider.generate(convertedString, accessTokenExpiredAt);
-        final String validRefreshToken = jwtProvider.generate(convertedString, refreshTokenExpiredAt);
+        final String validRefreshToken = jwtProvider.generate(convertedString, refreshTokenExpiredAt, Map.of("fid", FAMILY_ID, "ver", 0L));
 
-        authRepository.save(new AuthToken(validAccessToken, validRefreshToken, player.getMember()));
+        authRepository.save(new AuthToken(validAccessToken, validRefreshToken, player.getMember(), AuthToken.DEFAULT_DEVICE_ID, FAMILY_ID, 0L, toLocalDateTime(accessTokenExpiredAt), toLocalDateTime(refreshTokenExpiredAt)));
 
         //when
         final ExtractableResponse<Response> extract = RestAssured.given()
@@ -216,9 +227,9 @@ class AuthControllerTest extends CommonControllerTest {
         final Date accessTokenExpiredAt = new Date(now -1 );
         final Date refreshTokenExpiredAt = new Date(now - 1);
         final String expiredAccessToken = jwtProvider.generate(player.getMember().getId().toString(), accessTokenExpiredAt);
-        final String expiredRefreshToken = jwtProvider.generate(player.getMember().getId().toString(), refreshTokenExpiredAt);
+        final String expiredRefreshToken = jwtProvider.generate(player.getMember().getId().toString(), refreshTokenExpiredAt, Map.of("fid", FAMILY_ID, "ver", 0L));
 
-        authRepository.save(new AuthToken(expiredAccessToken, expiredRefreshToken, player.getMember()));
+        authRepository.save(new AuthToken(expiredAccessToken, expiredRefreshToken, player.getMember(), AuthToken.DEFAULT_DEVICE_ID, FAMILY_ID, 0L, toLocalDateTime(accessTokenExpiredAt), toLocalDateTime(refreshTokenExpiredAt)));
 
         //when
         final ExtractableResponse<Response> extract = RestAssured.given()
@@ -298,6 +309,8 @@ class AuthControllerTest extends CommonControllerTest {
         final int expectedStatusCode = HttpStatus.NO_CONTENT.value();
 
         assertThat(actualStatusCode).isEqualTo(expectedStatusCode);
+        assertThat(authOutboxRepository.findAll()).extracting(AuthOutbox::getType)
+                                                 .containsExactly(AuthOutboxType.UNLINK);
     }
 
     @Test
@@ -324,5 +337,11 @@ class AuthControllerTest extends CommonControllerTest {
         final int expectedStatusCode = HttpStatus.NO_CONTENT.value();
 
         assertThat(actualStatusCode).isEqualTo(expectedStatusCode);
+        assertThat(authOutboxRepository.findAll()).extracting(AuthOutbox::getType)
+                                                 .containsExactly(AuthOutboxType.LOGOUT);
+    }
+
+    private LocalDateTime toLocalDateTime(final Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
     }
 }
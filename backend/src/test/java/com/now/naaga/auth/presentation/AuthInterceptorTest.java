@@ -19,11 +19,14 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpStatus;
 
 import static com.now.naaga.auth.exception.AuthExceptionType.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SuppressWarnings("NonAsciiCharacters")
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -38,7 +41,7 @@ public class AuthInterceptorTest extends CommonControllerTest {
     @Autowired
     private AuthTokenGenerator authTokenGenerator;
 
-    @Autowired
+    @SpyBean
     private JwtProvider jwtProvider;
 
     @Autowired
@@ -185,4 +188,51 @@ public class AuthInterceptorTest extends CommonControllerTest {
         final int expectedStatusCode = HttpStatus.OK.value();
         assertThat(actualStatusCode).isEqualTo(expectedStatusCode);
     }
+
+    @Test
+    void 인증이_필요한_요청은_토큰을_한_번만_검증한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+        final AuthToken authToken = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
+        final String accessToken = authToken.getAccessToken();
+
+        // when
+        final ExtractableResponse<Response> extract = RestAssured.given()
+                                                                 .log().all()
+                                                                 .header("Authorization", "Bearer " + accessToken)
+                                                                 .when()
+                                                                 .get("/statistics/my")
+                                                                 .then()
+                                                                 .log().all()
+                                                                 .extract();
+
+        // then
+        assertThat(extract.statusCode()).isEqualTo(HttpStatus.OK.value());
+        verify(jwtProvider, times(1)).extractClaims(accessToken);
+    }
+
+    @Test
+    void 같은_토큰으로_여러_번_요청하면_서명은_한_번만_검증한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+        final AuthToken authToken = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
+        final String accessToken = authToken.getAccessToken();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given()
+                       .log().all()
+                       .header("Authorization", "Bearer " + accessToken)
+                       .when()
+                       .get("/statistics/my")
+                       .then()
+                       .log().all()
+                       .statusCode(HttpStatus.OK.value());
+        }
+
+        // then
+        verify(jwtProvider, times(1)).extractClaims(accessToken);
+    }
 }
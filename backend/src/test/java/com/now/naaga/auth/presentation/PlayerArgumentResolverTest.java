@@ -7,10 +7,12 @@ import com.now.naaga.common.CommonControllerTest;
 import com.now.naaga.common.builder.PlayerBuilder;
 import com.now.naaga.common.exception.ExceptionResponse;
 import com.now.naaga.player.domain.Player;
+import com.now.naaga.player.persistence.cache.PlayerIdCache;
 import com.now.naaga.player.persistence.repository.PlayerRepository;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -35,6 +37,9 @@ public class PlayerArgumentResolverTest extends CommonControllerTest {
     @Autowired
     private PlayerBuilder playerBuilder;
 
+    @Autowired
+    private PlayerIdCache playerIdCache;
+
     @BeforeEach
     protected void setUp() {
         super.setUp();
@@ -97,4 +102,44 @@ public class PlayerArgumentResolverTest extends CommonControllerTest {
         final int expectedStatusCode = HttpStatus.OK.value();
         assertThat(actualStatusCode).isEqualTo(expectedStatusCode);
     }
+
+    @Test
+    void 캐시된_플레이어_아이디는_트랜잭션_없이_조회한다() {
+        // given
+        final Player player = playerBuilder.init()
+                                           .build();
+
+        final AuthToken generate = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
+        final String accessToken = generate.getAccessToken();
+        requestMyStatistic(accessToken);
+
+        // when
+        final Statistics cachedStatistics = getStatistics();
+        requestMyStatistic(accessToken);
+        final long cachedStatementCount = cachedStatistics.getPrepareStatementCount();
+        final long cachedTransactionCount = cachedStatistics.getTransactionCount();
+
+        playerIdCache.clear();
+        final Statistics loadedStatistics = getStatistics();
+        requestMyStatistic(accessToken);
+        final long loadedStatementCount = loadedStatistics.getPrepareStatementCount();
+        final long loadedTransactionCount = loadedStatistics.getTransactionCount();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(loadedStatementCount - cachedStatementCount).isEqualTo(1);
+            softly.assertThat(loadedTransactionCount - cachedTransactionCount).isEqualTo(1);
+        });
+    }
+
+    private void requestMyStatistic(final String accessToken) {
+        RestAssured.given()
+                   .log().all()
+                   .header("Authorization", "Bearer " + accessToken)
+                   .when()
+                   .get("/statistics/my")
+                   .then()
+                   .log().all()
+                   .statusCode(HttpStatus.OK.value());
+    }
 }
@@ -3,18 +3,26 @@ package com.now.naaga.common;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.jdbc.Sql;
 
 @Sql("/truncate.sql")
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public abstract class CommonControllerTest {
 
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     protected void setUp() {
         RestAssured.port = port;
     }
@@ -23,4 +31,10 @@ public abstract class CommonControllerTest {
         String[] split = extractableResponse.header("Location").split("/");
         return Long.parseLong(split[split.length - 1]);
     }
+
+    protected Statistics getStatistics() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
 }
@@ -0,0 +1,41 @@
+package com.now.naaga.common;
+
+import com.now.naaga.auth.infrastructure.jwt.VerifiedTokenCache;
+import com.now.naaga.game.repository.cache.ActiveGameSessionCache;
+import com.now.naaga.place.persistence.index.PlaceGridIndex;
+import com.now.naaga.player.persistence.cache.PlayerIdCache;
+import com.now.naaga.player.persistence.leaderboard.Leaderboard;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+public class InMemoryStateResetListener extends AbstractTestExecutionListener {
+
+    private static final int AFTER_SQL_SCRIPTS_ORDER = 6000;
+
+    @Override
+    public int getOrder() {
+        return AFTER_SQL_SCRIPTS_ORDER;
+    }
+
+    @Override
+    public void beforeTestMethod(final TestContext testContext) {
+        if (!testContext.hasApplicationContext()) {
+            return;
+        }
+        testContext.getApplicationContext()
+                   .getBeanProvider(Leaderboard.class)
+                   .ifAvailable(Leaderboard::rebuild);
+        testContext.getApplicationContext()
+                   .getBeanProvider(VerifiedTokenCache.class)
+                   .ifAvailable(VerifiedTokenCache::invalidateAll);
+        testContext.getApplicationContext()
+                   .getBeanProvider(PlayerIdCache.class)
+                   .ifAvailable(PlayerIdCache::clear);
+        testContext.getApplicationContext()
+                   .getBeanProvider(ActiveGameSessionCache.class)
+                   .ifAvailable(ActiveGameSessionCache::clear);
+        testContext.getApplicationContext()
+                   .getBeanProvider(PlaceGridIndex.class)
+                   .ifAvailable(PlaceGridIndex::rebuild);
+    }
+}
@@ -0,0 +1,93 @@
+package com.now.naaga.common.config;
+
+import com.now.naaga.auth.infrastructure.AuthType;
+import com.now.naaga.auth.infrastructure.jwt.AuthTokenGenerator;
+import com.now.naaga.common.CommonControllerTest;
+import com.now.naaga.common.builder.PlayerBuilder;
+import com.now.naaga.player.domain.Player;
+import io.restassured.RestAssured;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadPinningTest extends CommonControllerTest {
+
+    private static final Pattern PINNED_IN_APPLICATION_CODE = Pattern.compile("com\\.now\\.naaga\\..*<== monitors");
+
+    private static final int PLAYER_COUNT = 10;
+
+    private static final int REQUEST_COUNT = 100;
+
+    @Autowired
+    private PlayerBuilder playerBuilder;
+
+    @Autowired
+    private AuthTokenGenerator authTokenGenerator;
+
+    @BeforeEach
+    protected void setUp() {
+        super.setUp();
+    }
+
+    @Test
+    void 가상_스레드로_요청을_처리해도_애플리케이션_코드에서_캐리어_스레드가_고정되지_않는다() throws Exception {
+        // given
+        assumeTrue(System.getProperty("jdk.tracePinnedThreads") != null);
+        final List<String> accessTokens = new ArrayList<>();
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            final Player player = playerBuilder.init()
+                                               .build();
+            accessTokens.add(authTokenGenerator.generate(player.getMember(), (long) i, AuthType.KAKAO).getAccessToken());
+        }
+        final PrintStream originalOut = System.out;
+        final ByteArrayOutputStream capturedOut = new ByteArrayOutputStream();
+        final ExecutorService executorService = Executors.newFixedThreadPool(PLAYER_COUNT);
+
+        // when
+        final List<Future<Integer>> responses = new ArrayList<>();
+        System.setOut(new PrintStream(capturedOut, true, StandardCharsets.UTF_8));
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                final String accessToken = accessTokens.get(i % PLAYER_COUNT);
+                final String path = i % 2 == 0 ? "/statistics/my" : "/ranks/my";
+                responses.add(executorService.submit(() -> RestAssured.given()
+                                                                      .header("Authorization", "Bearer " + accessToken)
+                                                                      .when()
+                                                                      .get(path)
+                                                                      .statusCode()));
+            }
+            for (final Future<Integer> response : responses) {
+                assertThat(response.get(10, TimeUnit.SECONDS)).isEqualTo(HttpStatus.OK.value());
+            }
+        } finally {
+            System.setOut(originalOut);
+            executorService.shutdown();
+        }
+
+        // then
+        final String pinnedThreadTraces = capturedOut.toString(StandardCharsets.UTF_8);
+        assertThat(PINNED_IN_APPLICATION_CODE.matcher(pinnedThreadTraces).find())
+                .as(pinnedThreadTraces)
+                .isFalse();
+    }
+}
@@ -0,0 +1,144 @@
+package com.now.naaga.common.infrastructure;
+
+import com.now.naaga.common.exception.CommonException;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import static com.now.naaga.common.exception.CommonExceptionType.FILE_SIZE_EXCEEDED;
+import static com.now.naaga.common.exception.CommonExceptionType.INVALID_IMAGE_FILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class MultipartFileManagerTest {
+
+    private static final Path IMAGE_FIXTURE = Path.of("src/test/java/com/now/naaga/place/fixture/루터회관.png");
+
+    @TempDir
+    private Path saveDirectory;
+
+    @Test
+    void 이미지를_화면용과_썸네일용으로_줄여서_저장한다() throws IOException {
+        // given
+        final MultipartFileManager multipartFileManager = createMultipartFileManager(DataSize.ofMegabytes(10));
+        final MockMultipartFile multipartFile = new MockMultipartFile("imageFile", "루터회관.png", "image/png", Files.readAllBytes(IMAGE_FIXTURE));
+
+        // when
+        final File displayFile = multipartFileManager.save(multipartFile);
+
+        // then
+        final String baseName = displayFile.getName().replace(".png", "");
+        final BufferedImage displayImage = ImageIO.read(displayFile);
+        final BufferedImage thumbnailImage = ImageIO.read(saveDirectory.resolve(baseName + "_thumbnail.png").toFile());
+        final List<Path> savedFiles = listFiles();
+        assertSoftly(softly -> {
+            softly.assertThat(savedFiles).hasSize(2);
+            softly.assertThat(displayImage.getWidth()).isEqualTo(562);
+            softly.assertThat(Math.max(thumbnailImage.getWidth(), thumbnailImage.getHeight())).isEqualTo(320);
+        });
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void 저장한_이미지는_웹_서버가_읽을_수_있는_권한으로_공개한다() throws IOException {
+        // given
+        final MultipartFileManager multipartFileManager = createMultipartFileManager(DataSize.ofMegabytes(10));
+        final MockMultipartFile multipartFile = new MockMultipartFile("imageFile", "루터회관.png", "image/png", Files.readAllBytes(IMAGE_FIXTURE));
+
+        // when
+        final File displayFile = multipartFileManager.save(multipartFile);
+
+        // then
+        final String baseName = displayFile.getName().replace(".png", "");
+        final Path thumbnailFile = saveDirectory.resolve(baseName + "_thumbnail.png");
+        assertSoftly(softly -> {
+            softly.assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(displayFile.toPath()))).isEqualTo("rw-r--r--");
+            softly.assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(thumbnailFile))).isEqualTo("rw-r--r--");
+        });
+    }
+
+    @Test
+    void 저장한_이미지의_썸네일_URL을_반환한다() throws IOException {
+        // given
+        final MultipartFileManager multipartFileManager = createMultipartFileManager(DataSize.ofMegabytes(10));
+        final MockMultipartFile multipartFile = new MockMultipartFile("imageFile", "루터회관.png", "image/png", Files.readAllBytes(IMAGE_FIXTURE));
+        final File displayFile = multipartFileManager.save(multipartFile);
+
+        // when
+        final String thumbnailUrl = multipartFileManager.convertToThumbnailUrlPath(displayFile);
+
+        // then
+        final String baseName = displayFile.getName().replace(".png", "");
+        assertThat(thumbnailUrl).isEqualTo("/images/" + baseName + "_thumbnail.png");
+    }
+
+    @Test
+    void 저장한_이미지를_삭제하면_썸네일도_함께_삭제한다() throws IOException {
+        // given
+        final MultipartFileManager multipartFileManager = createMultipartFileManager(DataSize.ofMegabytes(10));
+        final MockMultipartFile multipartFile = new MockMultipartFile("imageFile", "루터회관.png", "image/png", Files.readAllBytes(IMAGE_FIXTURE));
+        final File displayFile = multipartFileManager.save(multipartFile);
+
+        // when
+        multipartFileManager.delete(displayFile);
+
+        // then
+        assertThat(listFiles()).isEmpty();
+    }
+
+    @Test
+    void 이미지가_아닌_파일은_저장하지_않는다() throws IOException {
+        // given
+        final MultipartFileManager multipartFileManager = createMultipartFileManager(DataSize.ofMegabytes(10));
+        final MockMultipartFile multipartFile = new MockMultipartFile("imageFile", "루터회관.png", "image/png", "이미지가 아닙니다".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> multipartFileManager.save(multipartFile))
+                .isInstanceOf(CommonException.class)
+                .extracting(exception -> ((CommonException) exception).exceptionType())
+                .isEqualTo(INVALID_IMAGE_FILE);
+        assertThat(listFiles()).isEmpty();
+    }
+
+    @Test
+    void 최대_용량을_넘는_파일은_저장하지_않는다() throws IOException {
+        // given
+        final MultipartFileManager multipartFileManager = createMultipartFileManager(DataSize.ofKilobytes(1));
+        final MockMultipartFile multipartFile = new MockMultipartFile("imageFile", "루터회관.png", "image/png", Files.readAllBytes(IMAGE_FIXTURE));
+
+        // when & then
+        assertThatThrownBy(() -> multipartFileManager.save(multipartFile))
+                .isInstanceOf(CommonException.class)
+                .extracting(exception -> ((CommonException) exception).exceptionType())
+                .isEqualTo(FILE_SIZE_EXCEEDED);
+        assertThat(listFiles()).isEmpty();
+    }
+
+    private MultipartFileManager createMultipartFileManager(final DataSize maxFileSize) {
+        return new MultipartFileManager(saveDirectory.toString(), "/images", maxFileSize);
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(saveDirectory)) {
+            return files.toList();
+        }
+    }
+}
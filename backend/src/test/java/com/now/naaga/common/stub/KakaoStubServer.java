@@ -0,0 +1,112 @@
+package com.now.naaga.common.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KakaoStubServer {
+
+    private static final int SUCCESS = 200;
+
+    private static final int SERVER_ERROR = 500;
+
+    private final HttpServer httpServer;
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    private final List<String> receivedRequests = new CopyOnWriteArrayList<>();
+
+    private final Map<String, AtomicInteger> remainingFailures = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> delayMillis = new ConcurrentHashMap<>();
+
+    public KakaoStubServer() {
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        httpServer.createContext("/v2/user/me", exchange -> handle(exchange, """
+                {"id": 1, "kakao_account": {"email": "chae@chae.com", "profile": {"nickname": "채채"}}}
+                """));
+        httpServer.createContext("/v1/user/unlink", exchange -> handle(exchange, "{\"id\": 1}"));
+        httpServer.createContext("/v1/user/logout", exchange -> handle(exchange, "{\"id\": 1}"));
+        httpServer.setExecutor(executorService);
+    }
+
+    public KakaoStubServer start() {
+        httpServer.start();
+        return this;
+    }
+
+    public void stop() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+
+    public String url() {
+        return "http://localhost:" + httpServer.getAddress().getPort();
+    }
+
+    public void failNext(final String path,
+                         final int count) {
+        remainingFailures.put(path, new AtomicInteger(count));
+    }
+
+    public void delay(final String path,
+                      final long millis) {
+        delayMillis.put(path, millis);
+    }
+
+    public List<String> receivedRequests() {
+        return List.copyOf(receivedRequests);
+    }
+
+    private void handle(final HttpExchange exchange,
+                        final String body) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        final String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        sleep(delayMillis.getOrDefault(path, 0L));
+        if (shouldFail(path)) {
+            respond(exchange, SERVER_ERROR, "{}");
+            return;
+        }
+        receivedRequests.add(path + "?" + requestBody);
+        respond(exchange, SUCCESS, body);
+    }
+
+    private boolean shouldFail(final String path) {
+        final AtomicInteger failures = remainingFailures.get(path);
+        return failures != null && failures.getAndDecrement() > 0;
+    }
+
+    private void respond(final HttpExchange exchange,
+                         final int status,
+                         final String body) throws IOException {
+        final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        try (final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
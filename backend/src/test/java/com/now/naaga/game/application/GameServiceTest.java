@@ -4,18 +4,29 @@ import com.now.naaga.common.builder.GameBuilder;
 import com.now.naaga.common.builder.GameResultBuilder;
 import com.now.naaga.common.builder.PlaceBuilder;
 import com.now.naaga.common.builder.PlayerBuilder;
+import com.now.naaga.common.exception.BaseExceptionType;
 import com.now.naaga.game.application.dto.CreateGameCommand;
 import com.now.naaga.game.application.dto.EndGameCommand;
+import com.now.naaga.game.application.dto.EndGameResult;
 import com.now.naaga.game.application.dto.FindGameByIdCommand;
 import com.now.naaga.game.application.dto.FindGameByStatusCommand;
 import com.now.naaga.game.domain.Game;
 import com.now.naaga.game.domain.GameRecord;
 import com.now.naaga.game.domain.GameResult;
+import com.now.naaga.game.domain.PlayerStatistic;
 import com.now.naaga.game.domain.Statistic;
 import com.now.naaga.game.exception.GameException;
+import com.now.naaga.game.exception.GameNotArrivalException;
+import com.now.naaga.game.repository.GameRepository;
+import com.now.naaga.game.repository.GameResultRepository;
+import com.now.naaga.game.repository.PlayerStatisticRepository;
+import com.now.naaga.game.repository.cache.ActiveGameSessionCache;
 import com.now.naaga.place.domain.Place;
 import com.now.naaga.player.domain.Player;
 import com.now.naaga.player.presentation.dto.PlayerRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -25,10 +36,19 @@ import org.springframework.test.context.jdbc.Sql;
 
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static com.now.naaga.common.fixture.PositionFixture.*;
+import static com.now.naaga.game.domain.EndType.ARRIVED;
 import static com.now.naaga.game.domain.EndType.GIVE_UP;
+import static com.now.naaga.game.domain.Game.MAX_ATTEMPT_COUNT;
 import static com.now.naaga.game.domain.GameStatus.DONE;
 import static com.now.naaga.game.domain.GameStatus.IN_PROGRESS;
 import static com.now.naaga.game.domain.ResultType.FAIL;
@@ -40,7 +60,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @Sql("/truncate.sql")
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class GameServiceTest {
 
     @Autowired
@@ -58,6 +78,21 @@ class GameServiceTest {
     @Autowired
     private PlaceBuilder placeBuilder;
 
+    @Autowired
+    private PlayerStatisticRepository playerStatisticRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private ActiveGameSessionCache activeGameSessionCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void 게임_id로_게임_결과를_조회한다() {
         // given
@@ -120,6 +155,7 @@ class GameServiceTest {
         final Game game1 = gameBuilder.init()
                 .place(destination)
                 .player(player)
+                .gameStatus(DONE)
                 .startTime(LocalDateTime.of(2023, Month.AUGUST, 13, 15, 30, 0))
                 .endTime(LocalDateTime.of(2023, Month.AUGUST, 13, 17, 30, 0))
                 .startPosition(잠실역_교보문고_좌표)
@@ -128,6 +164,7 @@ class GameServiceTest {
         final Game game2 = gameBuilder.init()
                 .place(destination)
                 .player(player)
+                .gameStatus(DONE)
                 .startTime(LocalDateTime.of(2023, Month.AUGUST, 12, 15, 30, 0))
                 .endTime(LocalDateTime.of(2023, Month.AUGUST, 12, 17, 30, 0))
                 .startPosition(잠실역_교보문고_좌표)
@@ -371,6 +408,219 @@ class GameServiceTest {
         assertThat(expected.getGame().getId()).isEqualTo(game.getId());
     }
 
+    @Test
+    void 도착하지_않은_종료요청은_남은_시도_횟수를_차감하고_마지막_시도에서_게임을_종료한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+
+        final Place destination = placeBuilder.init()
+                .position(잠실_루터회관_정문_좌표)
+                .build();
+
+        final Game game = gameBuilder.init()
+                .place(destination)
+                .player(player)
+                .gameStatus(IN_PROGRESS)
+                .startPosition(잠실역_교보문고_좌표)
+                .build();
+
+        final EndGameCommand endGameCommand = new EndGameCommand(player.getId(), ARRIVED, 역삼역_좌표, game.getId());
+
+        // when
+        final List<Integer> remainingAttempts = new ArrayList<>();
+        for (int i = 1; i < MAX_ATTEMPT_COUNT; i++) {
+            assertThrows(GameNotArrivalException.class, () -> gameService.endGame(endGameCommand));
+            remainingAttempts.add(gameRepository.findById(game.getId()).orElseThrow().getRemainingAttempts());
+        }
+        final EndGameResult endGameResult = gameService.endGame(endGameCommand);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(remainingAttempts).containsExactly(2, 1);
+            softAssertions.assertThat(endGameResult.gameStatus()).isEqualTo(DONE);
+            softAssertions.assertThat(endGameResult.resultType()).isEqualTo(FAIL);
+            softAssertions.assertThat(gameService.findGameResultByGameId(game.getId()).getResultType()).isEqualTo(FAIL);
+        });
+    }
+
+    @Test
+    void 종료된_게임에_다시_종료요청이_들어오면_예외가_발생하고_결과를_다시_저장하지_않는다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+
+        final Place destination = placeBuilder.init()
+                .position(잠실_루터회관_정문_좌표)
+                .build();
+
+        final Game game = gameBuilder.init()
+                .place(destination)
+                .player(player)
+                .gameStatus(IN_PROGRESS)
+                .startPosition(잠실역_교보문고_좌표)
+                .build();
+
+        final EndGameCommand endGameCommand = new EndGameCommand(player.getId(), ARRIVED, 잠실_루터회관_정문_근처_좌표, game.getId());
+        gameService.endGame(endGameCommand);
+
+        // when
+        final BaseExceptionType baseExceptionType = assertThrows(GameException.class,
+                () -> gameService.endGame(endGameCommand)).exceptionType();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(baseExceptionType).isEqualTo(ALREADY_DONE);
+            softAssertions.assertThat(gameResultRepository.findByGameId(game.getId())).hasSize(1);
+        });
+    }
+
+    @Test
+    void 종료된_게임에_다시_종료요청이_들어오면_게임을_한_번_이하로_조회하고_거절한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+
+        final Place destination = placeBuilder.init()
+                .position(잠실_루터회관_정문_좌표)
+                .build();
+
+        final Game game = gameBuilder.init()
+                .place(destination)
+                .player(player)
+                .gameStatus(IN_PROGRESS)
+                .startPosition(잠실역_교보문고_좌표)
+                .build();
+
+        final EndGameCommand endGameCommand = new EndGameCommand(player.getId(), ARRIVED, 잠실_루터회관_정문_근처_좌표, game.getId());
+        gameService.endGame(endGameCommand);
+
+        // when
+        final Statistics statistics = getStatistics();
+        final BaseExceptionType cachedExceptionType = assertThrows(GameException.class,
+                () -> gameService.endGame(endGameCommand)).exceptionType();
+        final long cachedStatementCount = statistics.getPrepareStatementCount();
+
+        activeGameSessionCache.clear();
+        statistics.clear();
+        final BaseExceptionType loadedExceptionType = assertThrows(GameException.class,
+                () -> gameService.endGame(endGameCommand)).exceptionType();
+        final long loadedStatementCount = statistics.getPrepareStatementCount();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(cachedExceptionType).isEqualTo(ALREADY_DONE);
+            softAssertions.assertThat(cachedStatementCount).isZero();
+            softAssertions.assertThat(loadedExceptionType).isEqualTo(ALREADY_DONE);
+            softAssertions.assertThat(loadedStatementCount).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void 종료요청이_동시에_들어와도_게임_결과는_하나만_저장한다() throws Exception {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+
+        final Place destination = placeBuilder.init()
+                .position(잠실_루터회관_정문_좌표)
+                .build();
+
+        final Game game = gameBuilder.init()
+                .place(destination)
+                .player(player)
+                .gameStatus(IN_PROGRESS)
+                .startPosition(잠실역_교보문고_좌표)
+                .build();
+
+        final int requestCount = 5;
+        final CountDownLatch ready = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+
+        // when
+        final List<Future<EndGameResult>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(executorService.submit(() -> {
+                ready.await();
+                return gameService.endGame(new EndGameCommand(player.getId(), GIVE_UP, 잠실_루터회관_정문_좌표, game.getId()));
+            }));
+        }
+        ready.countDown();
+        int endedCount = 0;
+        for (final Future<EndGameResult> future : futures) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                endedCount++;
+            } catch (ExecutionException ignored) {
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        final int actualEndedCount = endedCount;
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actualEndedCount).isEqualTo(1);
+            softAssertions.assertThat(gameResultRepository.findByGameId(game.getId())).hasSize(1);
+            softAssertions.assertThat(gameRepository.findById(game.getId()).orElseThrow().getGameStatus()).isEqualTo(DONE);
+        });
+    }
+
+    @Test
+    void 종료요청이_들어오면_플레이어_통계를_갱신한다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+
+        final Place destination = placeBuilder.init()
+                .position(잠실_루터회관_정문_좌표)
+                .build();
+
+        final Game finishedGame = gameBuilder.init()
+                .place(destination)
+                .player(player)
+                .gameStatus(DONE)
+                .startTime(LocalDateTime.of(2023, Month.AUGUST, 12, 15, 30, 0))
+                .endTime(LocalDateTime.of(2023, Month.AUGUST, 12, 16, 30, 0))
+                .startPosition(잠실역_교보문고_좌표)
+                .build();
+
+        gameResultBuilder.init()
+                .resultType(SUCCESS)
+                .game(finishedGame)
+                .build();
+
+        final Game firstGame = gameBuilder.init()
+                .place(destination)
+                .player(player)
+                .gameStatus(IN_PROGRESS)
+                .startPosition(잠실역_교보문고_좌표)
+                .build();
+
+        gameService.endGame(new EndGameCommand(player.getId(), GIVE_UP, 잠실_루터회관_정문_좌표, firstGame.getId()));
+
+        final Game secondGame = gameBuilder.init()
+                .place(destination)
+                .player(player)
+                .gameStatus(IN_PROGRESS)
+                .startPosition(잠실역_교보문고_좌표)
+                .build();
+
+        // when
+        gameService.endGame(new EndGameCommand(player.getId(), GIVE_UP, 잠실_루터회관_정문_좌표, secondGame.getId()));
+
+        // then
+        final PlayerStatistic actual = playerStatisticRepository.findById(player.getId()).orElseThrow();
+        final Statistic expected = gameService.aggregatePlayerStatistic(player.getId()).toStatistic();
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual.getGameCount()).isEqualTo(3);
+            softAssertions.assertThat(actual.getSuccessGameCount()).isEqualTo(1);
+            softAssertions.assertThat(actual.getFailGameCount()).isEqualTo(2);
+            softAssertions.assertThat(actual.toStatistic())
+                    .usingRecursiveComparison()
+                    .isEqualTo(expected);
+        });
+    }
+
     @Test
     void 게임임생성_요청이_들어오면_게임을_저장하고_반환한다() {
         // given
@@ -415,6 +665,72 @@ class GameServiceTest {
         assertThat(gameException.exceptionType()).isEqualTo(ALREADY_IN_PROGRESS);
     }
 
+    @Test
+    void 게임임생성_요청이_동시에_들어와도_진행중인_게임은_하나만_저장한다() throws Exception {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+
+        placeBuilder.init()
+                .position(잠실_루터회관_정문_근처_좌표)
+                .build();
+
+        final int requestCount = 5;
+        final CountDownLatch ready = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+
+        // when
+        final List<Future<Game>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(executorService.submit(() -> {
+                ready.await();
+                return gameService.createGame(new CreateGameCommand(player.getId(), 잠실_루터회관_정문_좌표));
+            }));
+        }
+        ready.countDown();
+        int createdCount = 0;
+        final List<Throwable> failures = new ArrayList<>();
+        for (final Future<Game> future : futures) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                createdCount++;
+            } catch (ExecutionException exception) {
+                failures.add(exception.getCause());
+            }
+        }
+        executorService.shutdown();
+
+        // then
+        final int actualCreatedCount = createdCount;
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actualCreatedCount).isEqualTo(1);
+            softAssertions.assertThat(failures)
+                    .hasSize(requestCount - 1)
+                    .allSatisfy(failure -> assertThat(((GameException) failure).exceptionType()).isEqualTo(ALREADY_IN_PROGRESS));
+            softAssertions.assertThat(gameRepository.findByPlayerIdAndGameStatus(player.getId(), IN_PROGRESS)).hasSize(1);
+        });
+    }
+
+    @Test
+    void 진행중인_게임을_종료하면_새로운_게임을_생성할_수_있다() {
+        // given
+        final Player player = playerBuilder.init()
+                .build();
+
+        placeBuilder.init()
+                .position(잠실_루터회관_정문_근처_좌표)
+                .build();
+
+        final Game finishedGame = gameService.createGame(new CreateGameCommand(player.getId(), 잠실_루터회관_정문_좌표));
+        gameService.endGame(new EndGameCommand(player.getId(), GIVE_UP, 잠실_루터회관_정문_좌표, finishedGame.getId()));
+
+        // when
+        final Game actual = gameService.createGame(new CreateGameCommand(player.getId(), 잠실_루터회관_정문_좌표));
+
+        // then
+        assertThat(actual.getGameStatus()).isEqualTo(IN_PROGRESS);
+    }
+
     @Test
     void 게임임생성_요청이_들어왔을때_추천장소가_없다면_예외를_발생시킨다() {
         // given
@@ -431,4 +747,10 @@ class GameServiceTest {
         // then
         assertThat(gameException.exceptionType()).isEqualTo(CAN_NOT_FIND_PLACE);
     }
+
+    private Statistics getStatistics() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
 }
@@ -0,0 +1,79 @@
+package com.now.naaga.game.application;
+
+import static com.now.naaga.common.fixture.PositionFixture.서울_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.제주_좌표;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import com.now.naaga.common.builder.GameBuilder;
+import com.now.naaga.common.builder.PlaceBuilder;
+import com.now.naaga.game.application.dto.CreateHintCommand;
+import com.now.naaga.game.domain.Game;
+import com.now.naaga.game.repository.GameRepository;
+import com.now.naaga.place.domain.Place;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@Sql("/truncate.sql")
+@SpringBootTest(properties = "backfill.hint-count.enabled=true")
+class HintCountBackfillJobTest {
+
+    @Autowired
+    private HintCountBackfillJob hintCountBackfillJob;
+
+    @Autowired
+    private HintService hintService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GameBuilder gameBuilder;
+
+    @Autowired
+    private PlaceBuilder placeBuilder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 힌트_사용_횟수를_게임별_힌트_개수로_채운다() {
+        // given
+        final Place place = placeBuilder.init()
+                                        .position(제주_좌표)
+                                        .build();
+        final Game gameWithHints = gameBuilder.init()
+                                              .startPosition(서울_좌표)
+                                              .place(place)
+                                              .build();
+        final Game gameWithoutHints = gameBuilder.init()
+                                                 .startPosition(서울_좌표)
+                                                 .place(place)
+                                                 .build();
+        hintService.createHint(new CreateHintCommand(gameWithHints.getId(), gameWithHints.getPlayer().getId(), 서울_좌표));
+        hintService.createHint(new CreateHintCommand(gameWithHints.getId(), gameWithHints.getPlayer().getId(), 서울_좌표));
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery("UPDATE game SET hint_count = 0")
+                                                                        .executeUpdate());
+
+        // when
+        hintCountBackfillJob.backfill();
+
+        // then
+        final Game backfilledGameWithHints = gameRepository.findById(gameWithHints.getId()).orElseThrow();
+        final Game backfilledGameWithoutHints = gameRepository.findById(gameWithoutHints.getId()).orElseThrow();
+        assertSoftly(softly -> {
+            softly.assertThat(backfilledGameWithHints.getHintCount()).isEqualTo(2);
+            softly.assertThat(backfilledGameWithoutHints.getHintCount()).isZero();
+        });
+    }
+}
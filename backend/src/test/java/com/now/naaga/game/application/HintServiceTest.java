@@ -6,7 +6,10 @@ import static com.now.naaga.game.domain.Game.MAX_HINT_COUNT;
 import static com.now.naaga.game.exception.GameExceptionType.HINTS_EXHAUSTED;
 import static com.now.naaga.game.exception.GameExceptionType.HINT_NOT_EXIST_IN_GAME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.now.naaga.common.builder.GameBuilder;
 import com.now.naaga.common.builder.PlaceBuilder;
@@ -17,6 +20,8 @@ import com.now.naaga.game.domain.Direction;
 import com.now.naaga.game.domain.Game;
 import com.now.naaga.game.domain.Hint;
 import com.now.naaga.game.exception.GameException;
+import com.now.naaga.game.repository.GameRepository;
+import com.now.naaga.game.repository.HintRepository;
 import com.now.naaga.place.domain.Place;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -24,6 +29,7 @@ import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -42,6 +48,12 @@ class HintServiceTest {
     @Autowired
     private PlaceBuilder placeBuilder;
 
+    @Autowired
+    private HintRepository hintRepository;
+
+    @SpyBean
+    private GameRepository gameRepository;
+
     @Test
     void 힌트를_생성한다() {
         // given
@@ -65,11 +77,15 @@ class HintServiceTest {
         final Hint expected = new Hint(서울_좌표,
                                        Direction.SOUTH,
                                        game);
-        assertThat(actual)
-                .usingRecursiveComparison()
-                .ignoringExpectedNullFields()
-                .ignoringFieldsOfTypes(LocalDateTime.class)
-                .isEqualTo(expected);
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(actual)
+                          .usingRecursiveComparison()
+                          .ignoringExpectedNullFields()
+                          .ignoringFields("game")
+                          .ignoringFieldsOfTypes(LocalDateTime.class)
+                          .isEqualTo(expected);
+            softAssertions.assertThat(actual.getGame().getId()).isEqualTo(game.getId());
+        });
     }
 
     @Test
@@ -101,6 +117,59 @@ class HintServiceTest {
         assertThat(baseExceptionType).isEqualTo(HINTS_EXHAUSTED);
     }
 
+    @Test
+    void 진행중인_게임에_힌트를_여러번_생성해도_게임은_한_번만_조회한다() {
+        // given
+        final Place place = placeBuilder.init()
+                                        .position(제주_좌표)
+                                        .build();
+
+        final Game game = gameBuilder.init()
+                                     .startPosition(서울_좌표)
+                                     .place(place)
+                                     .build();
+
+        final CreateHintCommand createHintCommand = new CreateHintCommand(
+                game.getId(),
+                game.getPlayer().getId(),
+                서울_좌표);
+
+        // when
+        for (int i = 0; i < MAX_HINT_COUNT; i++) {
+            hintService.createHint(createHintCommand);
+        }
+
+        // then
+        verify(gameRepository, times(1)).findWithPlaceById(game.getId());
+        assertThat(hintRepository.count()).isEqualTo(MAX_HINT_COUNT);
+    }
+
+    @Test
+    void 힌트를_생성하면_게임의_힌트_사용_횟수가_증가한다() {
+        // given
+        final Place place = placeBuilder.init()
+                                        .position(제주_좌표)
+                                        .build();
+
+        final Game game = gameBuilder.init()
+                                     .startPosition(서울_좌표)
+                                     .place(place)
+                                     .build();
+
+        final CreateHintCommand createHintCommand = new CreateHintCommand(
+                game.getId(),
+                game.getPlayer().getId(),
+                서울_좌표);
+
+        // when
+        hintService.createHint(createHintCommand);
+        hintService.createHint(createHintCommand);
+
+        // then
+        final Game actual = gameRepository.findById(game.getId()).orElseThrow();
+        assertThat(actual.getHintCount()).isEqualTo(2);
+    }
+
     @Test
     void 힌트_id를_통해_힌트를_조회한다() {
         // given
@@ -0,0 +1,88 @@
+package com.now.naaga.game.domain;
+
+import static com.now.naaga.common.fixture.PositionFixture.역삼역_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_근처_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_좌표;
+import static com.now.naaga.game.domain.EndType.ARRIVED;
+import static com.now.naaga.game.domain.EndType.GIVE_UP;
+import static com.now.naaga.game.domain.Game.MAX_ATTEMPT_COUNT;
+import static com.now.naaga.game.domain.Game.MAX_HINT_COUNT;
+import static com.now.naaga.game.exception.GameExceptionType.INACCESSIBLE_AUTHENTICATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.now.naaga.common.exception.BaseExceptionType;
+import com.now.naaga.game.exception.GameException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ActiveGameSessionTest {
+
+    private static final Long GAME_ID = 1L;
+    private static final Long PLAYER_ID = 1L;
+
+    @Test
+    void 목적지에서_벗어난_도착_요청은_마지막_시도가_아니면_재시도할_수_있다() {
+        // given
+        final ActiveGameSession activeGameSession = createSession(MAX_ATTEMPT_COUNT, 0);
+
+        // when & then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(activeGameSession.isRetryableMiss(ARRIVED, 역삼역_좌표)).isTrue();
+            softAssertions.assertThat(activeGameSession.isRetryableMiss(ARRIVED, 잠실_루터회관_정문_근처_좌표)).isFalse();
+            softAssertions.assertThat(activeGameSession.isRetryableMiss(GIVE_UP, 역삼역_좌표)).isFalse();
+        });
+    }
+
+    @Test
+    void 마지막_시도에서_목적지를_벗어나면_재시도할_수_없다() {
+        // given
+        final ActiveGameSession activeGameSession = createSession(MAX_ATTEMPT_COUNT, 0);
+
+        // when
+        for (int i = 1; i < MAX_ATTEMPT_COUNT; i++) {
+            activeGameSession.missAttempt();
+        }
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(activeGameSession.getRemainingAttempts()).isEqualTo(1);
+            softAssertions.assertThat(activeGameSession.isRetryableMiss(ARRIVED, 역삼역_좌표)).isFalse();
+        });
+    }
+
+    @Test
+    void 힌트를_모두_사용하면_더_이상_사용할_수_없다() {
+        // given
+        final ActiveGameSession activeGameSession = createSession(MAX_ATTEMPT_COUNT, MAX_HINT_COUNT - 1);
+
+        // when
+        activeGameSession.useHint();
+
+        // then
+        assertThat(activeGameSession.canUseMoreHint()).isFalse();
+    }
+
+    @Test
+    void 게임을_시작한_플레이어가_아니면_예외가_발생한다() {
+        // given
+        final ActiveGameSession activeGameSession = createSession(MAX_ATTEMPT_COUNT, 0);
+
+        // when
+        final BaseExceptionType baseExceptionType = assertThrows(GameException.class,
+                () -> activeGameSession.validateOwner(PLAYER_ID + 1)).exceptionType();
+
+        // then
+        assertThat(baseExceptionType).isEqualTo(INACCESSIBLE_AUTHENTICATION);
+    }
+
+    private ActiveGameSession createSession(final int remainingAttempts,
+                                            final int hintCount) {
+        return new ActiveGameSession(GAME_ID, PLAYER_ID, 잠실_루터회관_정문_좌표, 역삼역_좌표, LocalDateTime.now(), remainingAttempts, hintCount);
+    }
+}
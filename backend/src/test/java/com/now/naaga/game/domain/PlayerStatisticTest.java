@@ -0,0 +1,49 @@
+package com.now.naaga.game.domain;
+
+import static com.now.naaga.common.fixture.PlaceFixture.PLACE;
+import static com.now.naaga.common.fixture.PlayerFixture.PLAYER;
+import static com.now.naaga.common.fixture.PositionFixture.던킨도너츠_올림픽공원점_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실역_교보문고_좌표;
+import static com.now.naaga.game.domain.GameStatus.DONE;
+import static com.now.naaga.game.domain.ResultType.FAIL;
+import static com.now.naaga.game.domain.ResultType.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.player.domain.Player;
+import com.now.naaga.score.domain.Score;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PlayerStatisticTest {
+
+    @Test
+    void 게임_기록을_누적한_통계는_전체_기록으로_계산한_통계와_같다() {
+        // given
+        final Player player = PLAYER();
+        final Place destination = PLACE(잠실_루터회관_정문_좌표, player);
+        final Game game1 = new Game(DONE, player, destination, 던킨도너츠_올림픽공원점_좌표, 1, new ArrayList<>(), LocalDateTime.of(2023, Month.AUGUST, 12, 15, 30, 0), LocalDateTime.of(2023, Month.AUGUST, 12, 17, 30, 0));
+        final Game game2 = new Game(DONE, player, destination, 잠실역_교보문고_좌표, 2, new ArrayList<>(), LocalDateTime.of(2023, Month.AUGUST, 13, 15, 30, 0), LocalDateTime.of(2023, Month.AUGUST, 13, 15, 45, 30));
+        final List<GameRecord> gameRecords = List.of(
+                GameRecord.from(new GameResult(SUCCESS, new Score(15), game1)),
+                GameRecord.from(new GameResult(FAIL, new Score(0), game2))
+        );
+        final PlayerStatistic playerStatistic = new PlayerStatistic(1L);
+
+        // when
+        gameRecords.forEach(playerStatistic::add);
+
+        // then
+        assertThat(playerStatistic.toStatistic())
+                .usingRecursiveComparison()
+                .isEqualTo(Statistic.of(gameRecords));
+    }
+}
@@ -0,0 +1,84 @@
+package com.now.naaga.game.domain;
+
+import static com.now.naaga.common.fixture.PlaceFixture.PLACE;
+import static com.now.naaga.common.fixture.PlayerFixture.PLAYER;
+import static com.now.naaga.common.fixture.PositionFixture.던킨도너츠_올림픽공원점_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_좌표;
+import static com.now.naaga.game.domain.GameStatus.DONE;
+import static com.now.naaga.game.domain.ResultType.FAIL;
+import static com.now.naaga.game.domain.ResultType.SUCCESS;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.player.domain.Player;
+import com.now.naaga.score.domain.Score;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StatisticAccumulatorTest {
+
+    private static final int RECORD_COUNT = 1000;
+
+    @Test
+    void 게임_기록을_병렬로_누적해도_순차_누적과_같은_통계를_만든다() {
+        // given
+        final List<GameRecord> gameRecords = createGameRecords();
+
+        // when
+        final Statistic sequential = gameRecords.stream().collect(StatisticAccumulator.summarizing());
+        final Statistic parallel = gameRecords.parallelStream().collect(StatisticAccumulator.summarizing());
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(parallel).usingRecursiveComparison().isEqualTo(sequential);
+            softly.assertThat(sequential.getGameCount()).isEqualTo(RECORD_COUNT);
+            softly.assertThat(sequential.getSuccessGameCount()).isEqualTo(RECORD_COUNT / 2);
+            softly.assertThat(sequential.getFailGameCount()).isEqualTo(RECORD_COUNT / 2);
+            softly.assertThat(sequential.getTotalDistance()).isEqualTo(826 * RECORD_COUNT);
+            softly.assertThat(sequential.getTotalPlayTime()).isEqualTo(Duration.ofMinutes(30).multipliedBy(RECORD_COUNT));
+        });
+    }
+
+    @Test
+    void 미리_집계된_통계와_합칠_수_있다() {
+        // given
+        final List<GameRecord> gameRecords = createGameRecords();
+        final StatisticAccumulator preAggregated = new StatisticAccumulator(10, 4, 6, 1000L, 600L, 3);
+        final StatisticAccumulator accumulator = new StatisticAccumulator();
+        gameRecords.forEach(accumulator::add);
+
+        // when
+        final Statistic statistic = preAggregated.merge(accumulator).toStatistic();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(statistic.getGameCount()).isEqualTo(10 + RECORD_COUNT);
+            softly.assertThat(statistic.getSuccessGameCount()).isEqualTo(4 + RECORD_COUNT / 2);
+            softly.assertThat(statistic.getFailGameCount()).isEqualTo(6 + RECORD_COUNT / 2);
+            softly.assertThat(statistic.getTotalDistance()).isEqualTo(1000 + 826 * RECORD_COUNT);
+            softly.assertThat(statistic.getTotalPlayTime()).isEqualTo(Duration.ofSeconds(600).plus(Duration.ofMinutes(30).multipliedBy(RECORD_COUNT)));
+            softly.assertThat(statistic.getTotalUsedHintCount()).isEqualTo(3);
+        });
+    }
+
+    private List<GameRecord> createGameRecords() {
+        final Player player = PLAYER();
+        final Place destination = PLACE(잠실_루터회관_정문_좌표, player);
+        final LocalDateTime startTime = LocalDateTime.of(2023, Month.AUGUST, 12, 15, 30, 0);
+        final List<GameRecord> gameRecords = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            final Game game = new Game(DONE, player, destination, 던킨도너츠_올림픽공원점_좌표, 1, new ArrayList<>(), startTime, startTime.plusMinutes(30));
+            final ResultType resultType = i % 2 == 0 ? SUCCESS : FAIL;
+            gameRecords.add(GameRecord.from(new GameResult(resultType, new Score(10), game)));
+        }
+        return gameRecords;
+    }
+}
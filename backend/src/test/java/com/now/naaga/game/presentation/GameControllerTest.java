@@ -22,6 +22,7 @@ import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -586,6 +587,7 @@ class GameControllerTest extends CommonControllerTest {
 
         final AuthToken generate = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
         final String accessToken = generate.getAccessToken();;
+        final Statistics statistics = getStatistics();
 
         final ExtractableResponse<Response> extract = RestAssured
                 .given().log().all()
@@ -607,6 +609,93 @@ class GameControllerTest extends CommonControllerTest {
                           .ignoringExpectedNullFields()
                           .ignoringFields("startTime")
                           .isEqualTo(expected);
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void 진행_상태로_게임_목록을_조회한다() {
+        // given
+        final Player player = playerBuilder.init()
+                                           .build();
+
+        final Game doneGame = gameBuilder.init()
+                                         .player(player)
+                                         .gameStatus(DONE)
+                                         .build();
+        hintRepository.save(new Hint(서울_좌표, Direction.SOUTH, doneGame));
+
+        final Game inProgressGame = gameBuilder.init()
+                                               .player(player)
+                                               .build();
+        hintRepository.save(new Hint(서울_좌표, Direction.SOUTH, inProgressGame));
+        hintRepository.save(new Hint(서울_좌표, Direction.NORTH, inProgressGame));
+
+        final AuthToken generate = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
+        final String accessToken = generate.getAccessToken();
+        final Statistics statistics = getStatistics();
+
+        // when
+        final ExtractableResponse<Response> extract = RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer " + accessToken)
+                .queryParam("status", IN_PROGRESS.name())
+                .when()
+                .get("/games")
+                .then().log().all()
+                .extract();
+
+        // then
+        final int statusCode = extract.statusCode();
+        final List<GameResponse> actual = extract.as(new TypeRef<>() {
+        });
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(statusCode).isEqualTo(HttpStatus.OK.value());
+            softAssertions.assertThat(actual).extracting(GameResponse::id)
+                          .containsExactly(inProgressGame.getId());
+            softAssertions.assertThat(actual.get(0).hints()).hasSize(2);
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void 플레이어의_모든_게임_목록을_조회한다() {
+        // given
+        final Player player = playerBuilder.init()
+                                           .build();
+
+        final Game doneGame = gameBuilder.init()
+                                         .player(player)
+                                         .gameStatus(DONE)
+                                         .build();
+        hintRepository.save(new Hint(서울_좌표, Direction.SOUTH, doneGame));
+
+        final Game inProgressGame = gameBuilder.init()
+                                               .player(player)
+                                               .build();
+
+        final AuthToken generate = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
+        final String accessToken = generate.getAccessToken();
+        final Statistics statistics = getStatistics();
+
+        // when
+        final ExtractableResponse<Response> extract = RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer " + accessToken)
+                .when()
+                .get("/games")
+                .then().log().all()
+                .extract();
+
+        // then
+        final int statusCode = extract.statusCode();
+        final List<GameResponse> actual = extract.as(new TypeRef<>() {
+        });
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(statusCode).isEqualTo(HttpStatus.OK.value());
+            softAssertions.assertThat(actual).extracting(GameResponse::id)
+                          .containsExactly(doneGame.getId(), inProgressGame.getId());
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
         });
     }
 
@@ -663,6 +752,7 @@ class GameControllerTest extends CommonControllerTest {
 
         final AuthToken generate = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
         final String accessToken = generate.getAccessToken();
+        final Statistics statistics = getStatistics();
 
         // when
         final ExtractableResponse<Response> response = RestAssured.given()
@@ -686,6 +776,7 @@ class GameControllerTest extends CommonControllerTest {
                   .usingRecursiveComparison()
                   .ignoringFields("startTime", "finishTime")
                   .isEqualTo(expected);
+            softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
         });
     }
 
@@ -719,6 +810,7 @@ class GameControllerTest extends CommonControllerTest {
 
         final AuthToken generate = authTokenGenerator.generate(player.getMember(), 1L, AuthType.KAKAO);
         final String accessToken = generate.getAccessToken();
+        final Statistics statistics = getStatistics();
 
         // when
         final ExtractableResponse<Response> response = RestAssured.given().log().all()
@@ -745,6 +837,7 @@ class GameControllerTest extends CommonControllerTest {
                   .usingRecursiveComparison()
                   .ignoringFields("startTime", "finishTime")
                   .isEqualTo(expected);
+            softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
         });
     }
 
@@ -765,6 +858,7 @@ class GameControllerTest extends CommonControllerTest {
 
         final CoordinateRequest SEOUL_COORDINATE = new CoordinateRequest(서울_좌표.getLatitude().doubleValue(),
                                                                          서울_좌표.getLongitude().doubleValue());
+        final Statistics statistics = getStatistics();
 
         final ExtractableResponse<Response> extract = RestAssured.given().log().all()
                                                                  .header("Authorization", "Bearer " + accessToken)
@@ -791,6 +885,7 @@ class GameControllerTest extends CommonControllerTest {
                           .usingRecursiveComparison()
                           .ignoringExpectedNullFields()
                           .isEqualTo(expected);
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
         });
     }
 
@@ -810,6 +905,7 @@ class GameControllerTest extends CommonControllerTest {
 
         final AuthToken generate = authTokenGenerator.generate(game.getPlayer().getMember(), 1L, AuthType.KAKAO);
         final String accessToken = generate.getAccessToken();
+        final Statistics statistics = getStatistics();
 
         final ExtractableResponse<Response> extract = RestAssured
                 .given().log().all()
@@ -832,6 +928,7 @@ class GameControllerTest extends CommonControllerTest {
             softAssertions.assertThat(actual)
                           .usingRecursiveComparison()
                           .isEqualTo(expected);
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
         });
     }
 
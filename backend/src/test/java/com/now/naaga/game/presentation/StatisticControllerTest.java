@@ -72,24 +72,24 @@ public class StatisticControllerTest extends CommonControllerTest {
                                       .place(place)
                                       .build();
 
+        final EndGameCommand endGameCommand1 = new EndGameCommand(player.getId(),
+                                                                  EndType.ARRIVED,
+                                                                  잠실역_교보문고_좌표,
+                                                                  game1.getId());
+
+        gameService.endGame(endGameCommand1);
+
         final Game game2 = gameBuilder.init()
                                       .startPosition(잠실_루터회관_정문_좌표)
                                       .player(player)
                                       .place(place)
                                       .build();
 
-        final EndGameCommand endGameCommand1 = new EndGameCommand(player.getId(),
-                                                                  EndType.ARRIVED,
-                                                                  잠실역_교보문고_좌표,
-                                                                  game1.getId());
-
         final EndGameCommand endGameCommand2 = new EndGameCommand(player.getId(),
                                                                   EndType.GIVE_UP,
                                                                   잠실역_교보문고_좌표,
                                                                   game2.getId());
 
-        gameService.endGame(endGameCommand1);
-
         gameService.endGame(endGameCommand2);
 
         final Statistic statistic = gameService.findStatistic(new PlayerRequest(player.getId()));
@@ -0,0 +1,139 @@
+package com.now.naaga.game.repository;
+
+import static com.now.naaga.common.fixture.PositionFixture.서울_좌표;
+import static com.now.naaga.game.domain.GameStatus.DONE;
+import static com.now.naaga.game.domain.GameStatus.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import com.now.naaga.common.builder.GameBuilder;
+import com.now.naaga.common.builder.GameResultBuilder;
+import com.now.naaga.common.builder.PlayerBuilder;
+import com.now.naaga.game.application.GameService;
+import com.now.naaga.game.application.HintService;
+import com.now.naaga.game.application.dto.CreateHintCommand;
+import com.now.naaga.game.domain.Game;
+import com.now.naaga.game.domain.GameRecord;
+import com.now.naaga.game.domain.GameResult;
+import com.now.naaga.game.domain.Statistic;
+import com.now.naaga.player.domain.Player;
+import com.now.naaga.player.presentation.dto.PlayerRequest;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@Sql("/truncate.sql")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class GameResultRepositoryTest {
+
+    private static final int GAME_COUNT = 5;
+
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
+    @Autowired
+    private HintService hintService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private GameBuilder gameBuilder;
+
+    @Autowired
+    private GameResultBuilder gameResultBuilder;
+
+    @Autowired
+    private PlayerBuilder playerBuilder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        player = playerBuilder.init()
+                              .build();
+        for (int i = 0; i < GAME_COUNT; i++) {
+            final Game game = gameBuilder.init()
+                                         .player(player)
+                                         .gameStatus(DONE)
+                                         .endTime(LocalDateTime.now().plusHours(1))
+                                         .build();
+            hintService.createHint(new CreateHintCommand(game.getId(), player.getId(), 서울_좌표));
+            hintService.createHint(new CreateHintCommand(game.getId(), player.getId(), 서울_좌표));
+            gameResultBuilder.init()
+                             .game(game)
+                             .build();
+        }
+        gameBuilder.init()
+                   .player(player)
+                   .gameStatus(IN_PROGRESS)
+                   .build();
+    }
+
+    @Test
+    void 플레이어의_게임_결과를_최신순으로_게임_정보와_함께_조회한다() {
+        // when
+        final List<GameResult> gameResults = gameResultRepository.findAllWithGameByPlayerId(player.getId());
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(gameResults).hasSize(GAME_COUNT);
+            softly.assertThat(gameResults).extracting(GameResult::getCreatedAt)
+                  .isSortedAccordingTo((first, second) -> second.compareTo(first));
+            softly.assertThat(gameResults).allSatisfy(gameResult ->
+                    assertThat(gameResult.getGame().getHintCount()).isEqualTo(2));
+        });
+    }
+
+    @Test
+    void 플레이어의_게임_결과_목록을_한_번의_쿼리로_조회한다() {
+        // given
+        final Statistics statistics = getStatistics();
+
+        // when
+        final List<GameRecord> gameRecords = gameService.findAllGameResult(new PlayerRequest(player.getId()));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(gameRecords).hasSize(GAME_COUNT);
+            softly.assertThat(gameRecords).allSatisfy(gameRecord -> assertThat(gameRecord.getHintUses()).isEqualTo(2));
+            softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void 플레이어의_통계를_한_번의_쿼리로_집계한다() {
+        // given
+        final Statistics statistics = getStatistics();
+
+        // when
+        final Statistic statistic = gameService.aggregatePlayerStatistic(player.getId()).toStatistic();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(statistic.getGameCount()).isEqualTo(GAME_COUNT);
+            softly.assertThat(statistic.getTotalUsedHintCount()).isEqualTo(GAME_COUNT * 2);
+            softly.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        });
+    }
+
+    private Statistics getStatistics() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,43 @@
+package com.now.naaga.place.domain;
+
+import static com.now.naaga.common.fixture.PositionFixture.GS25_방이도곡점_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.던킨도너츠_올림픽공원점_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.역삼역_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_근처_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실역_교보문고_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.제주_좌표;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PositionTest {
+
+    @Test
+    void 두_좌표_사이의_거리를_미터_단위로_계산한다() {
+        assertThat(잠실_루터회관_정문_좌표.calculateDistance(잠실_루터회관_정문_근처_좌표)).isCloseTo(11.12, within(0.01));
+        assertThat(잠실_루터회관_정문_좌표.calculateDistance(잠실역_교보문고_좌표)).isCloseTo(221.51, within(0.01));
+        assertThat(잠실_루터회관_정문_좌표.calculateDistance(던킨도너츠_올림픽공원점_좌표)).isCloseTo(826.37, within(0.01));
+        assertThat(잠실_루터회관_정문_좌표.calculateDistance(GS25_방이도곡점_좌표)).isCloseTo(944.71, within(0.01));
+        assertThat(잠실_루터회관_정문_좌표.calculateDistance(역삼역_좌표)).isCloseTo(6039.24, within(0.01));
+        assertThat(잠실_루터회관_정문_좌표.calculateDistance(제주_좌표)).isCloseTo(462215.03, within(0.01));
+    }
+
+    @Test
+    void 같은_좌표_사이의_거리는_0이다() {
+        assertThat(잠실_루터회관_정문_좌표.calculateDistance(잠실_루터회관_정문_좌표)).isZero();
+    }
+
+    @Test
+    void 거리는_방향과_상관없이_같다() {
+        final double forward = 잠실역_교보문고_좌표.calculateDistance(던킨도너츠_올림픽공원점_좌표);
+        final double backward = 던킨도너츠_올림픽공원점_좌표.calculateDistance(잠실역_교보문고_좌표);
+
+        assertThat(forward).isEqualTo(backward);
+    }
+}
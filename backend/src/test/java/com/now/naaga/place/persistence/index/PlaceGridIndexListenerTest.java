@@ -0,0 +1,84 @@
+package com.now.naaga.place.persistence.index;
+
+import static com.now.naaga.common.fixture.PlaceFixture.DESCRIPTION;
+import static com.now.naaga.common.fixture.PlaceFixture.IMAGE_URL;
+import static com.now.naaga.common.fixture.PlaceFixture.NAME;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실역_교보문고_좌표;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.now.naaga.common.builder.PlaceBuilder;
+import com.now.naaga.common.builder.PlayerBuilder;
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.place.persistence.repository.PlaceRepository;
+import com.now.naaga.player.domain.Player;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@Sql("/truncate.sql")
+@SpringBootTest
+class PlaceGridIndexListenerTest {
+
+    @Autowired
+    private PlaceGridIndex placeGridIndex;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceBuilder placeBuilder;
+
+    @Autowired
+    private PlayerBuilder playerBuilder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 커밋된_장소는_인덱스에_추가한다() {
+        // given & when
+        final Place place = placeBuilder.init()
+                                        .position(잠실역_교보문고_좌표)
+                                        .build();
+
+        // then
+        assertThat(placeGridIndex.findPlaceIdsNearBy(잠실_루터회관_정문_좌표, 1)).containsExactly(place.getId());
+    }
+
+    @Test
+    void 롤백된_장소는_인덱스에_추가하지_않는다() {
+        // given
+        final Player player = playerBuilder.init()
+                                           .build();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            placeRepository.save(new Place(NAME, DESCRIPTION, 잠실역_교보문고_좌표, IMAGE_URL, player));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(placeGridIndex.findPlaceIdsNearBy(잠실_루터회관_정문_좌표, 1)).isEmpty();
+    }
+
+    @Test
+    void 삭제된_장소는_인덱스에서_제거한다() {
+        // given
+        final Place place = placeBuilder.init()
+                                        .position(잠실역_교보문고_좌표)
+                                        .build();
+
+        // when
+        placeRepository.delete(place);
+
+        // then
+        assertThat(placeGridIndex.findPlaceIdsNearBy(잠실_루터회관_정문_좌표, 1)).isEmpty();
+    }
+}
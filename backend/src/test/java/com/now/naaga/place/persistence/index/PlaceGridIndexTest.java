@@ -0,0 +1,69 @@
+package com.now.naaga.place.persistence.index;
+
+import static com.now.naaga.common.fixture.PositionFixture.GS25_방이도곡점_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.역삼역_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실역_교보문고_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.제주_좌표;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.place.domain.Position;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class PlaceGridIndexTest {
+
+    private final PlaceGridIndex placeGridIndex = new PlaceGridIndex(null);
+
+    @Test
+    void 반경_안에_있는_장소의_아이디만_조회한다() {
+        // given
+        placeGridIndex.add(place(1L, 잠실역_교보문고_좌표));
+        placeGridIndex.add(place(2L, GS25_방이도곡점_좌표));
+        placeGridIndex.add(place(3L, 역삼역_좌표));
+        placeGridIndex.add(place(4L, 제주_좌표));
+
+        // when
+        final List<Long> actual = placeGridIndex.findPlaceIdsNearBy(잠실_루터회관_정문_좌표, 1);
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 같은_아이디의_장소를_다시_추가하면_위치를_갱신한다() {
+        // given
+        placeGridIndex.add(place(1L, 제주_좌표));
+        placeGridIndex.add(place(1L, 잠실역_교보문고_좌표));
+
+        // when
+        final List<Long> nearJamsil = placeGridIndex.findPlaceIdsNearBy(잠실_루터회관_정문_좌표, 1);
+        final List<Long> nearJeju = placeGridIndex.findPlaceIdsNearBy(제주_좌표, 1);
+
+        // then
+        assertThat(nearJamsil).containsExactly(1L);
+        assertThat(nearJeju).isEmpty();
+    }
+
+    @Test
+    void 제거한_장소는_조회하지_않는다() {
+        // given
+        placeGridIndex.add(place(1L, 잠실역_교보문고_좌표));
+        placeGridIndex.add(place(2L, GS25_방이도곡점_좌표));
+
+        // when
+        placeGridIndex.remove(1L);
+
+        // then
+        assertThat(placeGridIndex.findPlaceIdsNearBy(잠실_루터회관_정문_좌표, 1)).containsExactly(2L);
+    }
+
+    private Place place(final Long id, final Position position) {
+        return new Place(id, "name", "description", position, "imageUrl", null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.now.naaga.place.persistence.repository;
+
+import static com.now.naaga.common.fixture.PositionFixture.GS25_방이도곡점_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.던킨도너츠_올림픽공원점_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.서울_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.역삼역_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_근처_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실_루터회관_정문_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.잠실역_교보문고_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.제주_좌표;
+import static com.now.naaga.common.fixture.PositionFixture.파리바게트_방이시장점_좌표;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.now.naaga.common.builder.PlaceBuilder;
+import com.now.naaga.common.builder.PlayerBuilder;
+import com.now.naaga.place.domain.BoundingBox;
+import com.now.naaga.place.domain.Place;
+import com.now.naaga.place.domain.Position;
+import com.now.naaga.player.domain.Player;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@Sql("/truncate.sql")
+@SpringBootTest
+class PlaceRepositoryTest {
+
+    private static final List<Position> POSITIONS = List.of(
+            잠실_루터회관_정문_좌표,
+            잠실_루터회관_정문_근처_좌표,
+            잠실역_교보문고_좌표,
+            GS25_방이도곡점_좌표,
+            던킨도너츠_올림픽공원점_좌표,
+            역삼역_좌표,
+            파리바게트_방이시장점_좌표,
+            서울_좌표,
+            제주_좌표
+    );
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceBuilder placeBuilder;
+
+    @Autowired
+    private PlayerBuilder playerBuilder;
+
+    @BeforeEach
+    void setUp() {
+        final Player player = playerBuilder.init()
+                                           .build();
+        for (final Position position : POSITIONS) {
+            placeBuilder.init()
+                        .registeredPlayer(player)
+                        .position(position)
+                        .build();
+        }
+    }
+
+    @ParameterizedTest(name = "반경 {0}km 조회")
+    @ValueSource(doubles = {0.02, 0.5, 1, 2, 10, 500})
+    void 바운딩_박스로_먼저_거른_조회는_기존_반경_조회와_같은_장소를_반환한다(final double distance) {
+        for (final Position position : POSITIONS) {
+            // when
+            final List<Place> expected = placeRepository.findPlaceByPositionAndDistance(position, distance);
+            final List<Place> actual = placeRepository.findPlaceByPositionAndDistanceWithinBounds(
+                    position, distance, BoundingBox.of(position, distance));
+
+            // then
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @ParameterizedTest(name = "반경 {0}km 조회")
+    @ValueSource(doubles = {0.02, 1, 10, 500})
+    void 반경_내_장소의_아이디만_조회한다(final double distance) {
+        for (final Position position : POSITIONS) {
+            // when
+            final List<Long> expected = placeRepository.findPlaceByPositionAndDistance(position, distance)
+                                                       .stream()
+                                                       .map(Place::getId)
+                                                       .toList();
+            final List<Long> actual = placeRepository.findPlaceIdsByPositionAndDistanceWithinBounds(
+                    position, distance, BoundingBox.of(position, distance));
+
+            // then
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.now.naaga.player.domain.Player;
 import io.restassured.builder.MultiPartSpecBuilder;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -110,7 +111,7 @@ public class PlaceControllerTest extends CommonControllerTest {
             softAssertions.assertThat(location).isEqualTo("/places/" + actual.id());
             softAssertions.assertThat(expected)
                           .usingRecursiveComparison()
-                          .ignoringFields("id", "imageUrl")
+                          .ignoringFields("id", "imageUrl", "thumbnailUrl")
                           .isEqualTo(actual);
         });
 
@@ -174,6 +175,7 @@ public class PlaceControllerTest extends CommonControllerTest {
 
         final AuthToken generate = authTokenGenerator.generate(place.getRegisteredPlayer().getMember(), 1L, AuthType.KAKAO);
         final String accessToken = generate.getAccessToken();
+        final Statistics statistics = getStatistics();
         //when
         final ExtractableResponse<Response> extract = given()
                 .log().all()
@@ -193,6 +195,7 @@ public class PlaceControllerTest extends CommonControllerTest {
             softAssertions.assertThat(expected)
                           .usingRecursiveComparison()
                           .isEqualTo(actual);
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
         });
     }
 
@@ -204,6 +207,7 @@ public class PlaceControllerTest extends CommonControllerTest {
 
         final AuthToken generate = authTokenGenerator.generate(place.getRegisteredPlayer().getMember(), 1L, AuthType.KAKAO);
         final String accessToken = generate.getAccessToken();
+        final Statistics statistics = getStatistics();
 
         //when
         final ExtractableResponse<Response> extract = given()
@@ -228,6 +232,7 @@ public class PlaceControllerTest extends CommonControllerTest {
             softAssertions.assertThat(expected)
                           .usingRecursiveComparison()
                           .isEqualTo(actual);
+            softAssertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
         });
     }
 }
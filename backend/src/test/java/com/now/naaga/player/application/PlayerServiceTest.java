@@ -1,11 +1,17 @@
 package com.now.naaga.player.application;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.now.naaga.common.exception.BaseExceptionType;
 import com.now.naaga.member.domain.Member;
 import com.now.naaga.member.persistence.repository.MemberRepository;
+import com.now.naaga.player.application.dto.DeletePlayerCommand;
 import com.now.naaga.player.domain.Player;
 import com.now.naaga.player.domain.Rank;
+import com.now.naaga.player.exception.PlayerException;
+import com.now.naaga.player.exception.PlayerExceptionType;
 import com.now.naaga.player.persistence.repository.PlayerRepository;
 import com.now.naaga.player.presentation.dto.PlayerRequest;
 import com.now.naaga.score.domain.Score;
@@ -18,11 +24,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
-import org.springframework.transaction.annotation.Transactional;
 
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
-@Transactional
 @SpringBootTest
 @Sql("/truncate.sql")
 class PlayerServiceTest {
@@ -56,7 +60,7 @@ class PlayerServiceTest {
     @Test
     void 모든_플레이어를_점수_기준으로_내림차순_정렬을_하여_조회한다() {
         // when
-        final List<Rank> ranks = playerService.getAllPlayersByRanksAscending();
+        final List<Rank> ranks = playerService.getAllPlayersByRanksAscending(0, 10);
 
         // then
         assertSoftly(softly -> {
@@ -78,4 +82,85 @@ class PlayerServiceTest {
             softly.assertThat(rank.getPercentage()).isEqualTo(33);
         });
     }
+
+    @Test
+    void 페이지_단위로_랭크를_조회한다() {
+        // when
+        final List<Rank> ranks = playerService.getAllPlayersByRanksAscending(1, 2);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(ranks).hasSize(1);
+            softly.assertThat(ranks.get(0).getPlayer().getNickname()).isEqualTo("채채");
+            softly.assertThat(ranks.get(0).getRank()).isEqualTo(3);
+            softly.assertThat(ranks.get(0).getPercentage()).isEqualTo(100);
+        });
+    }
+
+    @Test
+    void 정수_범위를_넘는_페이지를_조회하면_빈_목록을_반환한다() {
+        // when
+        final List<Rank> ranks = playerService.getAllPlayersByRanksAscending(Integer.MAX_VALUE, 100);
+
+        // then
+        assertThat(ranks).isEmpty();
+    }
+
+    @Test
+    void 플레이어_주변의_랭크를_조회한다() {
+        // when
+        final List<Rank> ranks = playerService.getRanksAroundPlayer(new PlayerRequest(2L), 1);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(ranks).extracting(rank -> rank.getPlayer().getNickname())
+                  .containsExactly("채리", "이레", "채채");
+            softly.assertThat(ranks).extracting(Rank::getRank)
+                  .containsExactly(1, 2, 3);
+            softly.assertThat(ranks).extracting(Rank::getPercentage)
+                  .containsExactly(33, 66, 100);
+        });
+    }
+
+    @Test
+    void 최상위_플레이어_주변의_랭크는_아래_순위만_포함한다() {
+        // when
+        final List<Rank> ranks = playerService.getRanksAroundPlayer(new PlayerRequest(3L), 1);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(ranks).extracting(rank -> rank.getPlayer().getNickname())
+                  .containsExactly("채리", "이레");
+            softly.assertThat(ranks).extracting(Rank::getRank)
+                  .containsExactly(1, 2);
+        });
+    }
+
+    @Test
+    void 멤버_아이디로_플레이어_아이디를_조회한다() {
+        // given
+        final Player player = playerList.get(0);
+
+        // when
+        final Long playerId = playerService.findPlayerIdByMemberId(player.getMember().getId());
+
+        // then
+        assertThat(playerId).isEqualTo(player.getId());
+    }
+
+    @Test
+    void 플레이어를_삭제하면_캐시된_플레이어_아이디도_제거된다() {
+        // given
+        final Long memberId = playerList.get(0).getMember().getId();
+        playerService.findPlayerIdByMemberId(memberId);
+
+        // when
+        playerService.deleteByMemberId(new DeletePlayerCommand(memberId));
+
+        // then
+        final BaseExceptionType baseExceptionType = assertThrows(PlayerException.class, () ->
+                playerService.findPlayerIdByMemberId(memberId)
+        ).exceptionType();
+        assertThat(baseExceptionType).isEqualTo(PlayerExceptionType.PLAYER_NOT_FOUND);
+    }
 }
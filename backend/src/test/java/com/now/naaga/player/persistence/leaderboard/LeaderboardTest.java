@@ -0,0 +1,150 @@
+package com.now.naaga.player.persistence.leaderboard;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import com.now.naaga.common.builder.PlayerBuilder;
+import com.now.naaga.player.domain.Player;
+import com.now.naaga.player.persistence.repository.PlayerRepository;
+import com.now.naaga.score.domain.Score;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SuppressWarnings("NonAsciiCharacters")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@Sql("/truncate.sql")
+@SpringBootTest
+class LeaderboardTest {
+
+    @Autowired
+    private Leaderboard leaderboard;
+
+    @Autowired
+    private PlayerBuilder playerBuilder;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 점수가_높은_순서로_순위를_매기고_점수가_같으면_먼저_가입한_플레이어가_앞선다() {
+        // given
+        final Player first = playerBuilder.init().totalScore(new Score(30)).build();
+        final Player second = playerBuilder.init().totalScore(new Score(20)).build();
+        final Player third = playerBuilder.init().totalScore(new Score(20)).build();
+        final Player fourth = playerBuilder.init().totalScore(new Score(10)).build();
+
+        // when & then
+        assertSoftly(softly -> {
+            softly.assertThat(leaderboard.findRank(first.getId())).hasValue(1);
+            softly.assertThat(leaderboard.findRank(second.getId())).hasValue(2);
+            softly.assertThat(leaderboard.findRank(third.getId())).hasValue(3);
+            softly.assertThat(leaderboard.findRank(fourth.getId())).hasValue(4);
+            softly.assertThat(leaderboard.findPlayerIds(1, 2)).containsExactly(second.getId(), third.getId());
+            softly.assertThat(leaderboard.size()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    void 점수_변경이_커밋되면_순위에_반영된다() {
+        // given
+        final Player leader = playerBuilder.init().totalScore(new Score(30)).build();
+        final Player challenger = playerBuilder.init().totalScore(new Score(10)).build();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            final Player player = playerRepository.findById(challenger.getId()).orElseThrow();
+            player.addScore(new Score(25));
+        });
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(leaderboard.findRank(challenger.getId())).hasValue(1);
+            softly.assertThat(leaderboard.findRank(leader.getId())).hasValue(2);
+        });
+    }
+
+    @Test
+    void 점수_변경은_커밋되기_전까지_순위에_반영되지_않는다() {
+        // given
+        final Player leader = playerBuilder.init().totalScore(new Score(30)).build();
+        final Player challenger = playerBuilder.init().totalScore(new Score(10)).build();
+
+        // when
+        final Integer rankBeforeCommit = transactionTemplate.execute(status -> {
+            final Player player = playerRepository.findById(challenger.getId()).orElseThrow();
+            player.addScore(new Score(25));
+            playerRepository.flush();
+            return leaderboard.findRank(challenger.getId()).orElseThrow();
+        });
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(rankBeforeCommit).isEqualTo(2);
+            softly.assertThat(leaderboard.findRank(challenger.getId())).hasValue(1);
+            softly.assertThat(leaderboard.findRank(leader.getId())).hasValue(2);
+        });
+    }
+
+    @Test
+    void 점수_변경이_롤백되면_이전_순위로_돌아간다() {
+        // given
+        final Player leader = playerBuilder.init().totalScore(new Score(30)).build();
+        final Player challenger = playerBuilder.init().totalScore(new Score(10)).build();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            final Player player = playerRepository.findById(challenger.getId()).orElseThrow();
+            player.addScore(new Score(25));
+            playerRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(leaderboard.findRank(leader.getId())).hasValue(1);
+            softly.assertThat(leaderboard.findRank(challenger.getId())).hasValue(2);
+        });
+    }
+
+    @Test
+    void 플레이어가_삭제되면_순위에서_제외된다() {
+        // given
+        final Player leader = playerBuilder.init().totalScore(new Score(30)).build();
+        final Player deleted = playerBuilder.init().totalScore(new Score(40)).build();
+
+        // when
+        playerRepository.delete(deleted);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(leaderboard.findRank(deleted.getId())).isEmpty();
+            softly.assertThat(leaderboard.findRank(leader.getId())).hasValue(1);
+            softly.assertThat(leaderboard.findPlayerIds(0, 10)).containsExactly(leader.getId());
+        });
+    }
+
+    @Test
+    void 데이터베이스로부터_순위를_다시_구성한다() {
+        // given
+        final Player leader = playerBuilder.init().totalScore(new Score(30)).build();
+        final Player follower = playerBuilder.init().totalScore(new Score(10)).build();
+        leaderboard.clear();
+
+        // when
+        leaderboard.rebuild();
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(leaderboard.findPlayerIds(0, 10)).containsExactly(leader.getId(), follower.getId());
+            softly.assertThat(leaderboard.findPlayerIds(5, 10)).isEqualTo(List.of());
+        });
+    }
+}
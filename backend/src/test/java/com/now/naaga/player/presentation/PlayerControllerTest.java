@@ -123,6 +123,77 @@ public class PlayerControllerTest extends CommonControllerTest {
         assertThat(thirdRank.getRank()).isEqualTo(3);
     }
 
+    @Test
+    void 내_주변_순위의_랭크를_조회한다() {
+        // given
+        final Player player1 = playerBuilder.init()
+                .totalScore(new Score(15))
+                .build();
+
+        final Player player2 = playerBuilder.init()
+                .totalScore(new Score(20))
+                .build();
+
+        final Player player3 = playerBuilder.init()
+                .totalScore(new Score(30))
+                .build();
+
+        final AuthToken generate = authTokenGenerator.generate(player1.getMember(), 1L, AuthType.KAKAO);
+        final String accessToken = generate.getAccessToken();
+
+        // when
+        final ExtractableResponse<Response> response = RestAssured.given()
+                .log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("Authorization", "Bearer " + accessToken)
+                .when().get("/ranks/my/around?window=1")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+
+        // then
+        final List<RankResponse> rankResponseList = response.as(new TypeRef<>() {
+        });
+        assertSoftly(softly -> {
+            softly.assertThat(rankResponseList).extracting(rankResponse -> rankResponse.getPlayer().getId())
+                    .containsExactly(player2.getId(), player1.getId());
+            softly.assertThat(rankResponseList).extracting(RankResponse::getRank)
+                    .containsExactly(2, 3);
+        });
+    }
+
+    @Test
+    void 모든_맴버의_랭크를_페이지_단위로_조회한다() {
+        // given
+        playerBuilder.init()
+                .totalScore(new Score(15))
+                .build();
+
+        final Player player2 = playerBuilder.init()
+                .totalScore(new Score(20))
+                .build();
+
+        playerBuilder.init()
+                .totalScore(new Score(30))
+                .build();
+
+        // when
+        final ExtractableResponse<Response> response = RestAssured.given()
+                .log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/ranks?sort-by=rank&order=ascending&page=1&size=1")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract();
+
+        // then
+        final List<RankResponse> rankResponseList = response.as(new TypeRef<>() {
+        });
+        assertThat(rankResponseList).hasSize(1);
+        assertThat(rankResponseList.get(0).getPlayer().getId()).isEqualTo(player2.getId());
+        assertThat(rankResponseList.get(0).getRank()).isEqualTo(2);
+    }
+
     // TODO: 요청 파라미터가 잘못돼었을때(o)
     @Test
     void 모든_맴버의_랭크를_조회할때_요청_파라미터가_없으면_예외를_발생시킨다() {
@@ -8,6 +8,8 @@ TRUNCATE TABLE game_result;
 TRUNCATE TABLE game;
 TRUNCATE TABLE hint;
 TRUNCATE TABLE auth_token;
+TRUNCATE TABLE player_statistic;
+TRUNCATE TABLE auth_outbox;
 
 SET
 FOREIGN_KEY_CHECKS = 1;